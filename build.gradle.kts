@@ -1,6 +1,7 @@
 plugins {
     id("java")
     id("maven-publish")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.example"
@@ -14,8 +15,30 @@ dependencies {
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
     implementation("org.jetbrains:annotations:24.0.1")
+    implementation("org.ow2.asm:asm:9.7")
+    annotationProcessor(project(":processor"))
+}
+
+// The Vector API bulk codec and MemorySegmentSerializer are compiled against incubator modules. The bulk codec is only
+// used when its module is present at run time; applications using MemorySegmentSerializer add jdk.incubator.foreign.
+val incubatorModules = "--add-modules=jdk.incubator.vector,jdk.incubator.foreign"
+
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.add(incubatorModules)
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+    jvmArgs(incubatorModules)
+}
+
+jmh {
+    warmupIterations.set(2)
+    iterations.set(3)
+    fork.set(1)
+    jvmArgs.add(incubatorModules)
+}
+// The generator loads the test classes too, some of which reference the incubator modules.
+tasks.jmhRunBytecodeGenerator {
+    jvmArgs.add(incubatorModules)
+}
@@ -0,0 +1,10 @@
+plugins {
+    id("java")
+}
+
+group = "org.example"
+version = "1.0.0"
+
+repositories {
+    mavenCentral()
+}
@@ -0,0 +1,185 @@
+package org.example.processor;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Emits the Java source of a generated ObjectCodec. The field steps delegate to CodecSupport so the
+// wire format stays defined in one place; what the codec removes is reflection and generic dispatch.
+final class CodecWriter {
+    private static final String ARRAY_SERIALIZER = "org.example.serialization.serializers.ArraySerializer";
+    private static final String PRIMITIVE_ARRAY_SERIALIZER = "org.example.serialization.serializers.PrimitiveArraySerializer";
+    private static final String PRIMITIVE_LIST_SERIALIZER = "org.example.serialization.serializers.PrimitiveListSerializer";
+    private static final String OBJECT_SERIALIZER = "org.example.serialization.serializers.ObjectSerializer";
+    private static final String SERIALIZER_REGISTRY = "org.example.serialization.managers.SerializerRegistry";
+
+    private final String packageName;
+    private final String codecName;
+    private final String modelType;
+    private final List<FieldModel> fields;
+    private final Map<FieldModel, String> prefixes = new IdentityHashMap<>();
+    private final StringBuilder out = new StringBuilder();
+
+    CodecWriter(String packageName, String codecName, String modelType, List<FieldModel> fields) {
+        this.packageName = packageName;
+        this.codecName = codecName;
+        this.modelType = modelType;
+        this.fields = fields;
+
+        Set<String> usedPrefixes = new HashSet<>();
+        for (FieldModel field : fields) {
+            String prefix = field.name().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+            String unique = prefix;
+            for (int i = 2; !usedPrefixes.add(unique); i++) {
+                unique = prefix + "_" + i;
+            }
+            prefixes.put(field, unique);
+        }
+    }
+
+    String write() {
+        if (!packageName.isEmpty()) {
+            line("package " + packageName + ";");
+            line("");
+        }
+        line("import java.nio.ByteBuffer;");
+        line("import javax.annotation.processing.Generated;");
+        line("import org.example.serialization.codecs.CodecSupport;");
+        line("import org.example.serialization.dataclass.SerializedFieldAttributes;");
+        line("import org.example.serialization.interfaces.ObjectCodec;");
+        line("");
+        line("@Generated(\"" + SerializedFieldProcessor.class.getName() + "\")");
+        line("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+        line("public final class " + codecName + " implements ObjectCodec<" + modelType + "> {");
+        writeConstants();
+        line("");
+        writeSerialize();
+        line("");
+        writeSizeOf();
+        line("");
+        writeDeserialize();
+        line("}");
+        return out.toString();
+    }
+
+    private void writeConstants() {
+        for (FieldModel field : fields) {
+            String prefix = constantPrefix(field);
+            if (field.kind() != FieldModel.Kind.NESTED) {
+                line("    private static final " + serializerType(field) + " " + prefix + "_SERIALIZER = " + SERIALIZER_REGISTRY
+                        + ".forField(" + erasure(modelType) + ".class, \"" + field.name() + "\");");
+            }
+            String attributesType = field.isObjectArray() || field.kind() == FieldModel.Kind.NESTED ? "Object" : field.attributesType();
+            line("    private static final SerializedFieldAttributes " + prefix + "_ATTRIBUTES = " + attributes(field, attributesType));
+            if (field.isObjectArray()) {
+                line("    private static final SerializedFieldAttributes " + prefix + "_ELEMENT_ATTRIBUTES = "
+                        + attributes(field, field.elementType()));
+            }
+        }
+    }
+
+    private void writeSerialize() {
+        line("    @Override");
+        line("    public void serialize(" + modelType + " object, ByteBuffer buffer, " + OBJECT_SERIALIZER + " serializer) {");
+        for (FieldModel field : fields) {
+            String prefix = constantPrefix(field);
+            switch (field.kind()) {
+                case NESTED -> line("        CodecSupport.writeNested(buffer, " + field.getter() + ", " + prefix + "_ATTRIBUTES, serializer);");
+                case ARRAY -> line("        CodecSupport.writeValue(buffer, " + prefix + "_SERIALIZER, "
+                        + (field.isObjectArray() ? "(java.util.ArrayList) " : "") + field.getter() + ", " + prefix + "_ATTRIBUTES);");
+                case SIMPLE -> line("        CodecSupport.writeValue(buffer, " + prefix + "_SERIALIZER, " + field.getter() + ", "
+                        + prefix + "_ATTRIBUTES);");
+                case PRIMITIVE -> line("        CodecSupport.write" + field.primitiveName() + "(buffer, " + prefix + "_SERIALIZER, "
+                        + field.getter() + ", " + prefix + "_ATTRIBUTES);");
+            }
+        }
+        line("    }");
+    }
+
+    private void writeSizeOf() {
+        line("    @Override");
+        line("    public int sizeOf(" + modelType + " object, " + OBJECT_SERIALIZER + " serializer) {");
+        line("        int size = 0;");
+        for (FieldModel field : fields) {
+            String prefix = constantPrefix(field);
+            switch (field.kind()) {
+                case NESTED -> line("        size += CodecSupport.sizeOfNested(" + field.getter() + ", serializer);");
+                case ARRAY -> line("        size += CodecSupport.sizeOfValue(" + prefix + "_SERIALIZER, "
+                        + (field.isObjectArray() ? "(java.util.ArrayList) " : "") + field.getter() + ", " + prefix + "_ATTRIBUTES);");
+                case SIMPLE -> line("        size += CodecSupport.sizeOfValue(" + prefix + "_SERIALIZER, " + field.getter() + ", "
+                        + prefix + "_ATTRIBUTES);");
+                case PRIMITIVE -> line("        size += CodecSupport.sizeOfPrimitive(" + prefix + "_SERIALIZER);");
+            }
+        }
+        line("        return size;");
+        line("    }");
+    }
+
+    private void writeDeserialize() {
+        line("    @Override");
+        line("    public " + modelType + " deserialize(ByteBuffer buffer, " + OBJECT_SERIALIZER + " serializer) throws Exception {");
+        line("        " + modelType + " object = new " + modelType + "();");
+        line("        while (buffer.hasRemaining()) {");
+        line("            byte identifier = buffer.get();");
+        line("            switch (identifier) {");
+        Set<Byte> identifiers = new HashSet<>();
+        for (FieldModel field : fields) {
+            // Like the reflective path, the first field declaring an identifier receives it.
+            if (!identifiers.add(field.identifier())) {
+                continue;
+            }
+            String prefix = constantPrefix(field);
+            String length = field.hasLengthPrefix() ? "CodecSupport.readLength(buffer)" : String.valueOf(field.length());
+            String value = switch (field.kind()) {
+                case NESTED -> "(" + field.valueType() + ") CodecSupport.readNested(buffer, " + length + ", "
+                        + erasure(field.valueType()) + ".class, serializer)";
+                case ARRAY -> field.isObjectArray()
+                        ? "(java.util.ArrayList) CodecSupport.readArray(buffer, " + prefix + "_SERIALIZER, " + length + ", " + prefix + "_ELEMENT_ATTRIBUTES)"
+                        : "CodecSupport.readArray(buffer, " + prefix + "_SERIALIZER, " + length + ", " + prefix + "_ATTRIBUTES)";
+                case SIMPLE -> "CodecSupport.readValue(buffer, " + prefix + "_SERIALIZER, " + length + ", " + prefix + "_ATTRIBUTES)";
+                case PRIMITIVE -> "CodecSupport.read" + field.primitiveName() + "(buffer, " + prefix + "_SERIALIZER, " + length + ")";
+            };
+            line("                case (byte) " + hex(field.identifier()) + " -> " + field.setter(value) + ";");
+        }
+        line("                default -> throw CodecSupport.unknownIdentifier(" + modelType + ".class, identifier, buffer.position());");
+        line("            }");
+        line("        }");
+        line("        return object;");
+        line("    }");
+    }
+
+    private static String serializerType(FieldModel field) {
+        if (field.kind() != FieldModel.Kind.ARRAY) {
+            return field.serializerType();
+        } else if (field.isPrimitiveArray()) {
+            return PRIMITIVE_ARRAY_SERIALIZER + "<" + field.valueType() + ">";
+        } else if (field.isPrimitiveList()) {
+            return PRIMITIVE_LIST_SERIALIZER + "<" + field.valueType() + ">";
+        }
+        return ARRAY_SERIALIZER + "<" + (field.isObjectArray() ? "Object" : field.elementType()) + ">";
+    }
+
+    private String attributes(FieldModel field, String type) {
+        return "new SerializedFieldAttributes(" + erasure(type) + ".class, (byte) " + hex(field.identifier()) + ", "
+                + field.length() + ", " + field.required() + ");";
+    }
+
+    private String constantPrefix(FieldModel field) {
+        return prefixes.get(field);
+    }
+
+    private static String erasure(String type) {
+        int generic = type.indexOf('<');
+        return generic < 0 ? type : type.substring(0, generic);
+    }
+
+    private static String hex(byte value) {
+        return String.format("0x%02X", value & 0xFF);
+    }
+
+    private void line(String text) {
+        out.append(text).append('\n');
+    }
+}
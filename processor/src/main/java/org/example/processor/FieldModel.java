@@ -0,0 +1,40 @@
+package org.example.processor;
+
+// Everything CodecWriter needs to emit the encode and decode steps of one annotated field.
+record FieldModel(String name, Kind kind, byte identifier, int length, boolean required,
+                  String attributesType, String serializerType, String valueType, String elementType,
+                  String getter, String setterFormat) {
+
+    enum Kind {
+        SIMPLE,
+        PRIMITIVE,
+        ARRAY,
+        NESTED
+    }
+
+    boolean isObjectArray() {
+        return kind == Kind.ARRAY && serializerType == null;
+    }
+
+    // A DoubleList, LongList, IntList or FloatList, which has no type argument.
+    boolean isPrimitiveList() {
+        return kind == Kind.ARRAY && elementType == null && !isPrimitiveArray();
+    }
+
+    boolean isPrimitiveArray() {
+        return kind == Kind.ARRAY && valueType.endsWith("[]");
+    }
+
+    boolean hasLengthPrefix() {
+        return length == 0 || kind == Kind.ARRAY;
+    }
+
+    // Suffix of the CodecSupport primitive steps, e.g. Int for an int field.
+    String primitiveName() {
+        return Character.toUpperCase(valueType.charAt(0)) + valueType.substring(1);
+    }
+
+    String setter(String value) {
+        return String.format(setterFormat, value);
+    }
+}
@@ -0,0 +1,342 @@
+package org.example.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates an {@code ObjectCodec} next to every class with {@code @SerializedField} fields. Classes the
+ * generated code could not handle exactly like the reflective path are skipped with a note, and
+ * {@code ObjectSerializer} keeps using reflection for them.
+ */
+@SupportedAnnotationTypes(SerializedFieldProcessor.SERIALIZED_FIELD)
+public class SerializedFieldProcessor extends AbstractProcessor {
+    static final String SERIALIZED_FIELD = "org.example.serialization.interfaces.SerializedField";
+    private static final String SERIALIZER = "org.example.serialization.interfaces.Serializer";
+    private static final String ARRAY_SERIALIZER = "org.example.serialization.serializers.ArraySerializer";
+    private static final String PRIMITIVE_SERIALIZER = "org.example.serialization.interfaces.PrimitiveSerializer";
+    private static final String ARRAY_LIST = "java.util.ArrayList";
+    private static final String SERIALIZERS = "org.example.serialization.serializers.";
+    private static final String COLLECTIONS = "org.example.serialization.collections.";
+    // Mirrors PrimitiveListSerializer: the primitive list type each built-in element serializer decodes into.
+    private static final Map<String, String> PRIMITIVE_LISTS = Map.of(
+            SERIALIZERS + "DoubleSerializer", COLLECTIONS + "DoubleList",
+            SERIALIZERS + "LocationDataSerializer", COLLECTIONS + "DoubleList",
+            SERIALIZERS + "LongSerializer", COLLECTIONS + "LongList",
+            SERIALIZERS + "IntegerSerializer", COLLECTIONS + "IntList",
+            SERIALIZERS + "FloatSerializer", COLLECTIONS + "FloatList"
+    );
+    // Mirrors PrimitiveArraySerializer.
+    private static final Map<String, List<String>> PRIMITIVE_ARRAYS = Map.of(
+            SERIALIZERS + "DoubleSerializer", List.of("double[]"),
+            SERIALIZERS + "LocationDataSerializer", List.of("double[]"),
+            SERIALIZERS + "LongSerializer", List.of("long[]"),
+            SERIALIZERS + "LongFrom4ByteSerializer", List.of("long[]"),
+            SERIALIZERS + "IntegerSerializer", List.of("int[]"),
+            SERIALIZERS + "ByteIntSerializer", List.of("byte[]", "int[]"),
+            SERIALIZERS + "FloatSerializer", List.of("float[]"),
+            SERIALIZERS + "ShortSerializer", List.of("short[]")
+    );
+    private static final String OBJECT = "java.lang.Object";
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        messager = processingEnv.getMessager();
+
+        TypeElement serializedField = elements.getTypeElement(SERIALIZED_FIELD);
+        if (serializedField == null) {
+            return false;
+        }
+        Set<TypeElement> models = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(serializedField)) {
+            if (element.getEnclosingElement() instanceof TypeElement model) {
+                models.add(model);
+            }
+        }
+        for (TypeElement model : models) {
+            try {
+                generateCodec(model);
+            } catch (UnsupportedModelException e) {
+                messager.printMessage(Diagnostic.Kind.NOTE,
+                        "No codec generated for " + model.getQualifiedName() + ", using reflection: " + e.getMessage(), model);
+            }
+        }
+        return false;
+    }
+
+    private void generateCodec(TypeElement model) throws UnsupportedModelException {
+        checkModel(model);
+        List<FieldModel> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(model.getEnclosedElements())) {
+            AnnotationMirror annotation = findSerializedField(field);
+            if (annotation != null) {
+                fields.add(analyzeField(model, field, annotation));
+            }
+        }
+
+        String packageName = elements.getPackageOf(model).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(model).toString();
+        String codecName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + "Codec";
+        String source = new CodecWriter(packageName, codecName, model.getQualifiedName().toString(), fields).write();
+
+        String qualifiedCodecName = packageName.isEmpty() ? codecName : packageName + "." + codecName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedCodecName, model);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write " + qualifiedCodecName + ": " + e.getMessage(), model);
+        }
+    }
+
+    private void checkModel(TypeElement model) throws UnsupportedModelException {
+        if (model.getKind() != ElementKind.CLASS || model.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new UnsupportedModelException("not a concrete class");
+        }
+        if (!model.getTypeParameters().isEmpty()) {
+            throw new UnsupportedModelException("generic classes are not supported");
+        }
+        for (Element element = model; element instanceof TypeElement type; element = element.getEnclosingElement()) {
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new UnsupportedModelException("class is not accessible from its package");
+            }
+            if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS
+                    || (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))) {
+                throw new UnsupportedModelException("only top level and static nested classes are supported");
+            }
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(model.getEnclosedElements());
+        boolean hasNoArgConstructor = constructors.stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+        if (!hasNoArgConstructor) {
+            throw new UnsupportedModelException("no accessible no-argument constructor");
+        }
+    }
+
+    private FieldModel analyzeField(TypeElement model, VariableElement field, AnnotationMirror annotation) throws UnsupportedModelException {
+        String name = field.getSimpleName().toString();
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            throw new UnsupportedModelException(name + " is static");
+        }
+        TypeMirror fieldType = field.asType();
+        if (fieldType.getKind() != TypeKind.DECLARED && fieldType.getKind() != TypeKind.ARRAY && !fieldType.getKind().isPrimitive()) {
+            throw new UnsupportedModelException(name + " is not a reference, array or primitive type");
+        }
+
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = elements.getElementValuesWithDefaults(annotation);
+        TypeMirror type = (TypeMirror) value(values, "type");
+        byte identifier = (Byte) value(values, "identifier");
+        int length = (Integer) value(values, "length");
+        boolean required = (Boolean) value(values, "required");
+        TypeMirror innerType = (TypeMirror) value(values, "innerType");
+
+        String getter = getter(model, field);
+        String setterFormat = setterFormat(model, field);
+        String valueType = fieldType.toString();
+
+        if (fieldType.getKind().isPrimitive()) {
+            checkPrimitiveSerializer(name, type, fieldType);
+            return new FieldModel(name, FieldModel.Kind.PRIMITIVE, identifier, length, required,
+                    type.toString(), type.toString(), valueType, null, getter, setterFormat);
+        }
+
+        if (fieldType.getKind() == TypeKind.ARRAY) {
+            if (!isType(type, ARRAY_SERIALIZER) || !PRIMITIVE_ARRAYS.getOrDefault(innerType.toString(), List.of()).contains(valueType)) {
+                throw new UnsupportedModelException(name + " is a " + valueType + " but " + innerType + " does not decode into it");
+            }
+            return new FieldModel(name, FieldModel.Kind.ARRAY, identifier, length, required,
+                    ARRAY_SERIALIZER, innerType.toString(), valueType, null, getter, setterFormat);
+        }
+
+        if (isType(type, OBJECT)) {
+            return new FieldModel(name, FieldModel.Kind.NESTED, identifier, length, required,
+                    OBJECT, null, valueType, null, getter, setterFormat);
+        }
+
+        if (isType(type, ARRAY_SERIALIZER) && PRIMITIVE_LISTS.containsValue(valueType)) {
+            if (!valueType.equals(PRIMITIVE_LISTS.get(innerType.toString()))) {
+                throw new UnsupportedModelException(name + " is a " + valueType + " but " + innerType + " does not decode into it");
+            }
+            return new FieldModel(name, FieldModel.Kind.ARRAY, identifier, length, required,
+                    ARRAY_SERIALIZER, innerType.toString(), valueType, null, getter, setterFormat);
+        }
+
+        if (isType(type, ARRAY_SERIALIZER)) {
+            if (!isType(types.erasure(fieldType), ARRAY_LIST)) {
+                throw new UnsupportedModelException(name + " is not an ArrayList");
+            }
+            List<? extends TypeMirror> typeArguments = ((DeclaredType) fieldType).getTypeArguments();
+            if (typeArguments.size() != 1 || typeArguments.get(0).getKind() != TypeKind.DECLARED) {
+                throw new UnsupportedModelException(name + " has no element type");
+            }
+            TypeMirror elementType = typeArguments.get(0);
+            if (isType(innerType, OBJECT)) {
+                return new FieldModel(name, FieldModel.Kind.ARRAY, identifier, length, required,
+                        ARRAY_SERIALIZER, null, valueType, elementType.toString(), getter, setterFormat);
+            }
+            checkSerializer(name, innerType, elementType);
+            return new FieldModel(name, FieldModel.Kind.ARRAY, identifier, length, required,
+                    ARRAY_SERIALIZER, innerType.toString(), valueType, elementType.toString(), getter, setterFormat);
+        }
+
+        checkSerializer(name, type, fieldType);
+        return new FieldModel(name, FieldModel.Kind.SIMPLE, identifier, length, required,
+                type.toString(), type.toString(), valueType, null, getter, setterFormat);
+    }
+
+    // The generated code calls the serializer with the field's own type, so both must agree exactly.
+    private void checkSerializer(String name, TypeMirror serializer, TypeMirror valueType) throws UnsupportedModelException {
+        checkInstantiable(name, serializer);
+        TypeMirror serializedType = serializedType(serializer);
+        if (serializedType == null || !types.isSameType(types.erasure(serializedType), types.erasure(valueType))) {
+            throw new UnsupportedModelException(name + " does not match the type handled by " + serializer);
+        }
+    }
+
+    // Primitive fields are written through PrimitiveSerializer.OfInt and its siblings, which the serializer must implement.
+    private void checkPrimitiveSerializer(String name, TypeMirror serializer, TypeMirror valueType) throws UnsupportedModelException {
+        checkInstantiable(name, serializer);
+        String primitive = valueType.toString();
+        TypeElement primitiveSerializer = elements.getTypeElement(PRIMITIVE_SERIALIZER + ".Of"
+                + Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1));
+        if (primitiveSerializer == null || !types.isAssignable(serializer, types.erasure(primitiveSerializer.asType()))) {
+            throw new UnsupportedModelException(name + " is a " + primitive + " but " + serializer + " has no " + primitive + " entry points");
+        }
+    }
+
+    private void checkInstantiable(String name, TypeMirror serializer) throws UnsupportedModelException {
+        TypeElement serializerElement = (TypeElement) types.asElement(serializer);
+        if (serializerElement == null || !serializerElement.getModifiers().contains(Modifier.PUBLIC)
+                || serializerElement.getModifiers().contains(Modifier.ABSTRACT)
+                || !serializerElement.getTypeParameters().isEmpty()) {
+            throw new UnsupportedModelException(name + " uses a serializer that cannot be instantiated by generated code");
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(serializerElement.getEnclosedElements());
+        boolean hasPublicNoArgConstructor = constructors.stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC));
+        if (!hasPublicNoArgConstructor) {
+            throw new UnsupportedModelException(name + " uses a serializer without a public no-argument constructor");
+        }
+    }
+
+    private TypeMirror serializedType(TypeMirror type) {
+        TypeMirror serializer = types.erasure(elements.getTypeElement(SERIALIZER).asType());
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            if (types.isSameType(types.erasure(supertype), serializer)) {
+                List<? extends TypeMirror> typeArguments = ((DeclaredType) supertype).getTypeArguments();
+                return typeArguments.isEmpty() ? null : typeArguments.get(0);
+            }
+            TypeMirror found = serializedType(supertype);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    // Mirrors ReflectionManager: a public getX/setX pair wins over direct field access.
+    private String getter(TypeElement model, VariableElement field) throws UnsupportedModelException {
+        String name = field.getSimpleName().toString();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(model))) {
+            if (method.getSimpleName().contentEquals("get" + capitalize(name)) && isPublicInstance(method)
+                    && method.getParameters().isEmpty() && types.isSameType(method.getReturnType(), field.asType())) {
+                return "object." + method.getSimpleName() + "()";
+            }
+        }
+        if (field.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new UnsupportedModelException(name + " is private and has no public getter");
+        }
+        return "object." + name;
+    }
+
+    private String setterFormat(TypeElement model, VariableElement field) throws UnsupportedModelException {
+        String name = field.getSimpleName().toString();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(model))) {
+            if (method.getSimpleName().contentEquals("set" + capitalize(name)) && isPublicInstance(method)
+                    && method.getParameters().size() == 1
+                    && types.isSameType(types.erasure(method.getParameters().get(0).asType()), types.erasure(field.asType()))) {
+                return "object." + method.getSimpleName() + "(%s)";
+            }
+        }
+        if (field.getModifiers().contains(Modifier.PRIVATE) || field.getModifiers().contains(Modifier.FINAL)) {
+            throw new UnsupportedModelException(name + " is not writable and has no public setter");
+        }
+        return "object." + name + " = %s";
+    }
+
+    private AnnotationMirror findSerializedField(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(SERIALIZED_FIELD)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static Object value(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalStateException("Missing annotation value " + name);
+    }
+
+    private boolean isType(TypeMirror type, String qualifiedName) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) types.asElement(type)).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private static boolean isPublicInstance(ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private static String capitalize(String name) {
+        return name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+
+    private static class UnsupportedModelException extends Exception {
+        UnsupportedModelException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,2 +1,3 @@
 rootProject.name = "BoConverter"
 
+include("processor")
@@ -0,0 +1,86 @@
+package boconverter;
+
+import org.example.serialization.bulk.BulkCodec;
+import org.example.serialization.bulk.BulkCodecs;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Compares the scalar and Vector API bulk codecs on heap buffers, for the plain transfers and the narrowing ones.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@State(Scope.Benchmark)
+public class BulkCodecBenchmark {
+
+    @Param({"1000", "65536", "1000000"})
+    public int size;
+
+    @Param({"scalar", "vector"})
+    public String codec;
+
+    private BulkCodec bulkCodec;
+    private double[] doubles;
+    private int[] ints;
+    private long[] longs;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        bulkCodec = codec.equals("vector") ? BulkCodecs.vector() : BulkCodecs.scalar();
+        if (bulkCodec == null) {
+            throw new IllegalStateException("Run with --add-modules jdk.incubator.vector");
+        }
+        Random random = new Random(42);
+        doubles = random.doubles(size).toArray();
+        ints = random.ints(size, 0, 256).toArray();
+        longs = random.longs(size).toArray();
+        buffer = ByteBuffer.allocate(size * Long.BYTES);
+        random.ints(buffer.capacity()).forEach(value -> buffer.put((byte) value));
+    }
+
+    @Benchmark
+    public ByteBuffer encodeDoubles() {
+        bulkCodec.putDoubles(buffer.clear(), doubles, 0, size);
+        return buffer;
+    }
+
+    @Benchmark
+    public double[] decodeDoubles() {
+        bulkCodec.getDoubles(buffer.clear(), doubles, 0, size);
+        return doubles;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeInts() {
+        bulkCodec.putInts(buffer.clear(), ints, 0, size);
+        return buffer;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeIntsAsBytes() {
+        bulkCodec.putIntsAsBytes(buffer.clear(), ints, 0, size);
+        return buffer;
+    }
+
+    @Benchmark
+    public int[] decodeIntsFromBytes() {
+        bulkCodec.getIntsFromBytes(buffer.clear(), ints, 0, size);
+        return ints;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeLongsAsInts() {
+        bulkCodec.putLongsAsInts(buffer.clear(), longs, 0, size);
+        return buffer;
+    }
+
+    @Benchmark
+    public long[] decodeLongsFromInts() {
+        bulkCodec.getLongsFromInts(buffer.clear(), longs, 0, size);
+        return longs;
+    }
+}
@@ -0,0 +1,96 @@
+package boconverter;
+
+import org.example.models.Area;
+import org.example.models.Food;
+import org.example.models.SleepBinning;
+import org.example.models.ZoneType;
+import org.example.serialization.codecs.CodecMode;
+import org.example.serialization.managers.CodecManager;
+import org.example.serialization.serializers.ObjectSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+// Encodes and decodes the Food -> ZoneType -> Area graph with each codec mode.
+// AUTO picks the annotation processor's codecs here, GENERATED the runtime hidden classes. deserializeInto decodes
+// through the class schema in every mode; run with -prof gc to compare allocation against deserialize.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CodecModeBenchmark {
+
+    @Param({"REFLECTION", "GENERATED", "AUTO"})
+    public CodecMode mode;
+
+    private final ObjectSerializer serializer = new ObjectSerializer();
+    private Food food;
+    private byte[] serializedFood;
+    private Food target;
+
+    @Setup
+    public void setUp() {
+        CodecManager.setMode(mode);
+        food = createFood();
+        serializedFood = serializer.serialize(food);
+        target = new Food();
+    }
+
+    @TearDown
+    public void tearDown() {
+        CodecManager.setMode(CodecMode.AUTO);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(food);
+    }
+
+    @Benchmark
+    public Object deserialize() throws Exception {
+        return serializer.deserialize(serializedFood, Food.class);
+    }
+
+    @Benchmark
+    public Food deserializeInto() throws Exception {
+        return serializer.deserializeInto(serializedFood, target);
+    }
+
+    private static Food createFood() {
+        Food food = new Food();
+        food.setFoodType(42);
+        food.setFoodName("Alu vorta");
+        food.setFoodUUID("0000018d-f7a9-9575-a405-eede1217e657");
+        ArrayList<Double> list = new ArrayList<>();
+        list.add(1.1);
+        list.add(2.2);
+        list.add(3.3);
+        food.setArrayList(list);
+
+        ZoneType zoneType = new ZoneType();
+        zoneType.setMaxValue(20);
+        zoneType.setMinValue(10);
+        zoneType.setLength(1723214160000L);
+        zoneType.setUuid("0000018d-070e-5705-a405-eede1217e657");
+        ArrayList<String> zones = new ArrayList<>();
+        zones.add("Max");
+        zones.add("Min");
+        zoneType.setZones(zones);
+        zoneType.setLatitude(37.7749);
+        zoneType.setLongitude(-122.4194);
+
+        ArrayList<Area> areas = new ArrayList<>();
+        ArrayList<SleepBinning> sleepBinnings = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Area area = new Area();
+            area.setAreaName("Area" + i);
+            area.setArea((double) i);
+            areas.add(area);
+            sleepBinnings.add(new SleepBinning(i, i));
+        }
+        zoneType.setAreas(areas);
+        zoneType.setSleepBinnings(sleepBinnings);
+        food.setZoneType(zoneType);
+        return food;
+    }
+}
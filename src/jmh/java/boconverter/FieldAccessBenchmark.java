@@ -0,0 +1,106 @@
+package boconverter;
+
+import org.example.models.ZoneType;
+import org.example.serialization.dataclass.FieldAccessor;
+import org.example.serialization.managers.ReflectionManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+// Compares the old per-access getter lookup with accessors resolved once into method handles.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FieldAccessBenchmark {
+
+    static class Sample {
+        private int hidden = 7;
+    }
+
+    private final ZoneType zoneType = new ZoneType();
+    private final Sample sample = new Sample();
+    private Field latitudeField;
+    private Field hiddenField;
+    private FieldAccessor latitudeAccessor;
+    private FieldAccessor hiddenAccessor;
+
+    @Setup
+    public void setUp() throws Exception {
+        zoneType.setLatitude(37.7749);
+        latitudeField = ZoneType.class.getDeclaredField("latitude");
+        latitudeField.setAccessible(true);
+        hiddenField = Sample.class.getDeclaredField("hidden");
+        hiddenField.setAccessible(true);
+        ReflectionManager reflectionManager = new ReflectionManager();
+        latitudeAccessor = reflectionManager.resolveAccessor(latitudeField);
+        hiddenAccessor = reflectionManager.resolveAccessor(hiddenField);
+    }
+
+    @Benchmark
+    public Object getterLookupPerAccess() {
+        return lookupAndGet(latitudeField, zoneType);
+    }
+
+    @Benchmark
+    public Object fieldFallbackPerAccess() {
+        return lookupAndGet(hiddenField, sample);
+    }
+
+    @Benchmark
+    public Object getterHandle() {
+        return latitudeAccessor.get(zoneType);
+    }
+
+    @Benchmark
+    public Object fieldHandle() {
+        return hiddenAccessor.get(sample);
+    }
+
+    @Benchmark
+    public void setterLookupPerAccess() throws IllegalAccessException {
+        lookupAndSet(latitudeField, zoneType, 1.5);
+    }
+
+    @Benchmark
+    public void setterHandle() {
+        latitudeAccessor.set(zoneType, 1.5);
+    }
+
+    @Benchmark
+    public void fieldSetterFallbackPerAccess() throws IllegalAccessException {
+        lookupAndSet(hiddenField, sample, 3);
+    }
+
+    @Benchmark
+    public void fieldSetterHandle() {
+        hiddenAccessor.set(sample, 3);
+    }
+
+    // The lookup ReflectionManager performed on every read before accessors were resolved once.
+    private static Object lookupAndGet(Field field, Object object) {
+        try {
+            String name = field.getName();
+            Method getter = field.getDeclaringClass().getMethod("get" + name.substring(0, 1).toUpperCase() + name.substring(1));
+            return getter.invoke(object);
+        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+            try {
+                return field.get(object);
+            } catch (IllegalAccessException ex) {
+                return null;
+            }
+        }
+    }
+
+    private static void lookupAndSet(Field field, Object object, Object value) throws IllegalAccessException {
+        try {
+            String name = field.getName();
+            Method setter = field.getDeclaringClass().getMethod("set" + name.substring(0, 1).toUpperCase() + name.substring(1), field.getType());
+            setter.invoke(object, value);
+        } catch (NoSuchMethodException | InvocationTargetException e) {
+            field.set(object, value);
+        }
+    }
+}
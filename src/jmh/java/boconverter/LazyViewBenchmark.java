@@ -0,0 +1,62 @@
+package boconverter;
+
+import org.example.models.Area;
+import org.example.models.SleepBinning;
+import org.example.models.ZoneType;
+import org.example.serialization.serializers.LazyView;
+import org.example.serialization.serializers.ObjectSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+// Reads uuid and latitude from a ZoneType carrying size zones, areas and sleep binnings, by decoding the whole message
+// and through a lazy view.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@State(Scope.Benchmark)
+public class LazyViewBenchmark {
+
+    @Param({"3", "100"})
+    public int size;
+
+    private final ObjectSerializer serializer = new ObjectSerializer();
+    private byte[] serializedZoneType;
+
+    @Setup
+    public void setUp() {
+        ZoneType zoneType = new ZoneType();
+        zoneType.setUuid("0000018d-070e-5705-a405-eede1217e657");
+        zoneType.setLatitude(37.7749);
+        zoneType.setLongitude(-122.4194);
+        ArrayList<String> zones = new ArrayList<>();
+        ArrayList<Area> areas = new ArrayList<>();
+        ArrayList<SleepBinning> sleepBinnings = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            zones.add("Zone" + i);
+            Area area = new Area();
+            area.setAreaName("Area" + i);
+            area.setArea((double) i);
+            areas.add(area);
+            sleepBinnings.add(new SleepBinning(i, i));
+        }
+        zoneType.setZones(zones);
+        zoneType.setAreas(areas);
+        zoneType.setSleepBinnings(sleepBinnings);
+        serializedZoneType = serializer.serialize(zoneType);
+    }
+
+    @Benchmark
+    public double deserialize() throws Exception {
+        ZoneType zoneType = (ZoneType) serializer.deserialize(serializedZoneType, ZoneType.class);
+        return zoneType.getUuid().length() + zoneType.getLatitude();
+    }
+
+    @Benchmark
+    public double lazy() throws Exception {
+        LazyView<ZoneType> view = serializer.lazy(serializedZoneType, ZoneType.class);
+        return view.<String>get("uuid").length() + view.getDouble("latitude");
+    }
+}
@@ -1,5 +1,10 @@
 package org.example.serialization;
 
 public class SerializationConstants {
-    public static final int MAX_BUFFER_SIZE = 1024 * 1024 * 8;
+    public static final int DEFAULT_BUFFER_SIZE = 4 * 1024;
+    // Pooled buffers that grew beyond this are dropped on release so one outlier payload does not stay resident.
+    public static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+    public static final long MAX_POOLED_BYTES = 16L * 1024 * 1024;
+    // Largest array most JVMs will allocate.
+    public static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
 }
@@ -0,0 +1,162 @@
+package org.example.serialization.buffers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+// Fixed width loads matching BinaryWriter. Relative gets advance the position and throw BufferUnderflowException when
+// fewer bytes remain; absolute gets leave the position alone. The buffer's own byte order is never used.
+public final class BinaryReader {
+    private static final VarHandle SHORT_LE = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle SHORT_ARRAY_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_ARRAY_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_ARRAY_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_ARRAY_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle FLOAT_LE = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle FLOAT_ARRAY_LE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_LE = MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_ARRAY_LE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private BinaryReader() {
+    }
+
+    private static int claim(ByteBuffer buffer, int size) {
+        int position = buffer.position();
+        if (buffer.limit() - position < size) {
+            throw new BufferUnderflowException();
+        }
+        return position;
+    }
+
+    // Heap buffers go through the array view, whose access path is much shorter than the buffer view's and keeps the
+    // callers small enough to inline. The index is checked against the limit as the buffer view would.
+    private static int offset(ByteBuffer buffer, int index, int size) {
+        return buffer.arrayOffset() + Objects.checkFromIndexSize(index, size, buffer.limit());
+    }
+
+    public static short getShortLE(ByteBuffer buffer) {
+        int position = claim(buffer, Short.BYTES);
+        short value = buffer.hasArray()
+                ? (short) SHORT_ARRAY_LE.get(buffer.array(), buffer.arrayOffset() + position)
+                : (short) SHORT_LE.get(buffer, position);
+        buffer.position(position + Short.BYTES);
+        return value;
+    }
+
+    public static short getShortLE(ByteBuffer buffer, int index) {
+        if (buffer.hasArray()) {
+            return (short) SHORT_ARRAY_LE.get(buffer.array(), offset(buffer, index, Short.BYTES));
+        }
+        return (short) SHORT_LE.get(buffer, index);
+    }
+
+    public static short getShortLE(byte[] array, int index) {
+        return (short) SHORT_ARRAY_LE.get(array, index);
+    }
+
+    public static int getIntLE(ByteBuffer buffer) {
+        int position = claim(buffer, Integer.BYTES);
+        int value = buffer.hasArray()
+                ? (int) INT_ARRAY_LE.get(buffer.array(), buffer.arrayOffset() + position)
+                : (int) INT_LE.get(buffer, position);
+        buffer.position(position + Integer.BYTES);
+        return value;
+    }
+
+    public static int getIntLE(ByteBuffer buffer, int index) {
+        if (buffer.hasArray()) {
+            return (int) INT_ARRAY_LE.get(buffer.array(), offset(buffer, index, Integer.BYTES));
+        }
+        return (int) INT_LE.get(buffer, index);
+    }
+
+    public static int getIntLE(byte[] array, int index) {
+        return (int) INT_ARRAY_LE.get(array, index);
+    }
+
+    public static int getIntBE(ByteBuffer buffer) {
+        int position = claim(buffer, Integer.BYTES);
+        int value = buffer.hasArray()
+                ? (int) INT_ARRAY_BE.get(buffer.array(), buffer.arrayOffset() + position)
+                : (int) INT_BE.get(buffer, position);
+        buffer.position(position + Integer.BYTES);
+        return value;
+    }
+
+    public static int getIntBE(ByteBuffer buffer, int index) {
+        if (buffer.hasArray()) {
+            return (int) INT_ARRAY_BE.get(buffer.array(), offset(buffer, index, Integer.BYTES));
+        }
+        return (int) INT_BE.get(buffer, index);
+    }
+
+    public static int getIntBE(byte[] array, int index) {
+        return (int) INT_ARRAY_BE.get(array, index);
+    }
+
+    public static long getLongLE(ByteBuffer buffer) {
+        int position = claim(buffer, Long.BYTES);
+        long value = buffer.hasArray()
+                ? (long) LONG_ARRAY_LE.get(buffer.array(), buffer.arrayOffset() + position)
+                : (long) LONG_LE.get(buffer, position);
+        buffer.position(position + Long.BYTES);
+        return value;
+    }
+
+    public static long getLongLE(ByteBuffer buffer, int index) {
+        if (buffer.hasArray()) {
+            return (long) LONG_ARRAY_LE.get(buffer.array(), offset(buffer, index, Long.BYTES));
+        }
+        return (long) LONG_LE.get(buffer, index);
+    }
+
+    public static long getLongLE(byte[] array, int index) {
+        return (long) LONG_ARRAY_LE.get(array, index);
+    }
+
+    public static float getFloatLE(ByteBuffer buffer) {
+        int position = claim(buffer, Float.BYTES);
+        float value = buffer.hasArray()
+                ? (float) FLOAT_ARRAY_LE.get(buffer.array(), buffer.arrayOffset() + position)
+                : (float) FLOAT_LE.get(buffer, position);
+        buffer.position(position + Float.BYTES);
+        return value;
+    }
+
+    public static float getFloatLE(ByteBuffer buffer, int index) {
+        if (buffer.hasArray()) {
+            return (float) FLOAT_ARRAY_LE.get(buffer.array(), offset(buffer, index, Float.BYTES));
+        }
+        return (float) FLOAT_LE.get(buffer, index);
+    }
+
+    public static float getFloatLE(byte[] array, int index) {
+        return (float) FLOAT_ARRAY_LE.get(array, index);
+    }
+
+    public static double getDoubleLE(ByteBuffer buffer) {
+        int position = claim(buffer, Double.BYTES);
+        double value = buffer.hasArray()
+                ? (double) DOUBLE_ARRAY_LE.get(buffer.array(), buffer.arrayOffset() + position)
+                : (double) DOUBLE_LE.get(buffer, position);
+        buffer.position(position + Double.BYTES);
+        return value;
+    }
+
+    public static double getDoubleLE(ByteBuffer buffer, int index) {
+        if (buffer.hasArray()) {
+            return (double) DOUBLE_ARRAY_LE.get(buffer.array(), offset(buffer, index, Double.BYTES));
+        }
+        return (double) DOUBLE_LE.get(buffer, index);
+    }
+
+    public static double getDoubleLE(byte[] array, int index) {
+        return (double) DOUBLE_ARRAY_LE.get(array, index);
+    }
+}
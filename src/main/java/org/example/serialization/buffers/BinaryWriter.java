@@ -0,0 +1,175 @@
+package org.example.serialization.buffers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+// Fixed width stores with the byte order named by each method, through VarHandle views of the buffer or array, so a
+// shared buffer's own order is neither consulted nor changed. Relative puts advance the position and, like ByteBuffer's,
+// throw BufferOverflowException without writing when the value does not fit; absolute puts leave the position alone.
+public final class BinaryWriter {
+    private static final VarHandle SHORT_LE = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle SHORT_ARRAY_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_ARRAY_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_ARRAY_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_ARRAY_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle FLOAT_LE = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle FLOAT_ARRAY_LE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_LE = MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_ARRAY_LE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private BinaryWriter() {
+    }
+
+    private static int claim(ByteBuffer buffer, int size) {
+        int position = buffer.position();
+        if (buffer.limit() - position < size) {
+            throw new BufferOverflowException();
+        }
+        return position;
+    }
+
+    // Heap buffers go through the array view, whose access path is much shorter than the buffer view's and keeps the
+    // callers small enough to inline. The index is checked against the limit as the buffer view would.
+    private static int offset(ByteBuffer buffer, int index, int size) {
+        return buffer.arrayOffset() + Objects.checkFromIndexSize(index, size, buffer.limit());
+    }
+
+    public static void putShortLE(ByteBuffer buffer, short value) {
+        int position = claim(buffer, Short.BYTES);
+        if (buffer.hasArray()) {
+            SHORT_ARRAY_LE.set(buffer.array(), buffer.arrayOffset() + position, value);
+        } else {
+            SHORT_LE.set(buffer, position, value);
+        }
+        buffer.position(position + Short.BYTES);
+    }
+
+    public static void putShortLE(ByteBuffer buffer, int index, short value) {
+        if (buffer.hasArray()) {
+            SHORT_ARRAY_LE.set(buffer.array(), offset(buffer, index, Short.BYTES), value);
+        } else {
+            SHORT_LE.set(buffer, index, value);
+        }
+    }
+
+    public static void putShortLE(byte[] array, int index, short value) {
+        SHORT_ARRAY_LE.set(array, index, value);
+    }
+
+    public static void putIntLE(ByteBuffer buffer, int value) {
+        int position = claim(buffer, Integer.BYTES);
+        if (buffer.hasArray()) {
+            INT_ARRAY_LE.set(buffer.array(), buffer.arrayOffset() + position, value);
+        } else {
+            INT_LE.set(buffer, position, value);
+        }
+        buffer.position(position + Integer.BYTES);
+    }
+
+    public static void putIntLE(ByteBuffer buffer, int index, int value) {
+        if (buffer.hasArray()) {
+            INT_ARRAY_LE.set(buffer.array(), offset(buffer, index, Integer.BYTES), value);
+        } else {
+            INT_LE.set(buffer, index, value);
+        }
+    }
+
+    public static void putIntLE(byte[] array, int index, int value) {
+        INT_ARRAY_LE.set(array, index, value);
+    }
+
+    public static void putIntBE(ByteBuffer buffer, int value) {
+        int position = claim(buffer, Integer.BYTES);
+        if (buffer.hasArray()) {
+            INT_ARRAY_BE.set(buffer.array(), buffer.arrayOffset() + position, value);
+        } else {
+            INT_BE.set(buffer, position, value);
+        }
+        buffer.position(position + Integer.BYTES);
+    }
+
+    public static void putIntBE(ByteBuffer buffer, int index, int value) {
+        if (buffer.hasArray()) {
+            INT_ARRAY_BE.set(buffer.array(), offset(buffer, index, Integer.BYTES), value);
+        } else {
+            INT_BE.set(buffer, index, value);
+        }
+    }
+
+    public static void putIntBE(byte[] array, int index, int value) {
+        INT_ARRAY_BE.set(array, index, value);
+    }
+
+    public static void putLongLE(ByteBuffer buffer, long value) {
+        int position = claim(buffer, Long.BYTES);
+        if (buffer.hasArray()) {
+            LONG_ARRAY_LE.set(buffer.array(), buffer.arrayOffset() + position, value);
+        } else {
+            LONG_LE.set(buffer, position, value);
+        }
+        buffer.position(position + Long.BYTES);
+    }
+
+    public static void putLongLE(ByteBuffer buffer, int index, long value) {
+        if (buffer.hasArray()) {
+            LONG_ARRAY_LE.set(buffer.array(), offset(buffer, index, Long.BYTES), value);
+        } else {
+            LONG_LE.set(buffer, index, value);
+        }
+    }
+
+    public static void putLongLE(byte[] array, int index, long value) {
+        LONG_ARRAY_LE.set(array, index, value);
+    }
+
+    public static void putFloatLE(ByteBuffer buffer, float value) {
+        int position = claim(buffer, Float.BYTES);
+        if (buffer.hasArray()) {
+            FLOAT_ARRAY_LE.set(buffer.array(), buffer.arrayOffset() + position, value);
+        } else {
+            FLOAT_LE.set(buffer, position, value);
+        }
+        buffer.position(position + Float.BYTES);
+    }
+
+    public static void putFloatLE(ByteBuffer buffer, int index, float value) {
+        if (buffer.hasArray()) {
+            FLOAT_ARRAY_LE.set(buffer.array(), offset(buffer, index, Float.BYTES), value);
+        } else {
+            FLOAT_LE.set(buffer, index, value);
+        }
+    }
+
+    public static void putFloatLE(byte[] array, int index, float value) {
+        FLOAT_ARRAY_LE.set(array, index, value);
+    }
+
+    public static void putDoubleLE(ByteBuffer buffer, double value) {
+        int position = claim(buffer, Double.BYTES);
+        if (buffer.hasArray()) {
+            DOUBLE_ARRAY_LE.set(buffer.array(), buffer.arrayOffset() + position, value);
+        } else {
+            DOUBLE_LE.set(buffer, position, value);
+        }
+        buffer.position(position + Double.BYTES);
+    }
+
+    public static void putDoubleLE(ByteBuffer buffer, int index, double value) {
+        if (buffer.hasArray()) {
+            DOUBLE_ARRAY_LE.set(buffer.array(), offset(buffer, index, Double.BYTES), value);
+        } else {
+            DOUBLE_LE.set(buffer, index, value);
+        }
+    }
+
+    public static void putDoubleLE(byte[] array, int index, double value) {
+        DOUBLE_ARRAY_LE.set(array, index, value);
+    }
+}
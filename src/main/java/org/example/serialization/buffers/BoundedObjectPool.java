@@ -0,0 +1,54 @@
+package org.example.serialization.buffers;
+
+import org.example.serialization.interfaces.ObjectPool;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Keeps up to maxPerType released instances of each class, claimed with atomic swaps like BufferPool's buffers.
+// Instances released when a class's slots are full are left to the garbage collector.
+public class BoundedObjectPool implements ObjectPool {
+    private final int maxPerType;
+    private final ClassValue<AtomicReferenceArray<Object>> slots = new ClassValue<>() {
+        @Override
+        protected AtomicReferenceArray<Object> computeValue(Class<?> type) {
+            return new AtomicReferenceArray<>(maxPerType);
+        }
+    };
+
+    public BoundedObjectPool(int maxPerType) {
+        if (maxPerType < 0) {
+            throw new IllegalArgumentException("Invalid object pool limit");
+        }
+        this.maxPerType = maxPerType;
+    }
+
+    @Override
+    public <T> T acquire(Class<T> type) {
+        AtomicReferenceArray<Object> typeSlots = slots.get(type);
+        int length = typeSlots.length();
+        int start = length == 0 ? 0 : ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            Object object = typeSlots.getAndSet((start + i) % length, null);
+            if (object != null) {
+                return type.cast(object);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void release(Object object) {
+        if (object == null) {
+            return;
+        }
+        AtomicReferenceArray<Object> typeSlots = slots.get(object.getClass());
+        int length = typeSlots.length();
+        int start = length == 0 ? 0 : ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            if (typeSlots.compareAndSet((start + i) % length, null, object)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.serialization.buffers;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.example.serialization.SerializationConstants.*;
+
+// Bounded pool of reusable heap buffers. Slots are claimed with atomic swaps instead of locks or thread locals,
+// so it behaves the same on platform and virtual threads.
+public class BufferPool {
+    private static final BufferPool DEFAULT = new BufferPool(Math.max(4, 2 * Runtime.getRuntime().availableProcessors()),
+            DEFAULT_BUFFER_SIZE, MAX_POOLED_BUFFER_SIZE, MAX_POOLED_BYTES);
+
+    private final AtomicReferenceArray<ByteBuffer> slots;
+    private final int initialCapacity;
+    private final int maxBufferCapacity;
+    private final long maxRetainedBytes;
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder grows = new LongAdder();
+    private final LongAdder shrinks = new LongAdder();
+
+    public BufferPool(int maxBuffers, int initialCapacity, int maxBufferCapacity, long maxRetainedBytes) {
+        if (maxBuffers < 0 || initialCapacity <= 0 || maxBufferCapacity < initialCapacity || maxRetainedBytes < 0) {
+            throw new IllegalArgumentException("Invalid buffer pool limits");
+        }
+        this.slots = new AtomicReferenceArray<>(maxBuffers);
+        this.initialCapacity = initialCapacity;
+        this.maxBufferCapacity = maxBufferCapacity;
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    public static BufferPool getDefault() {
+        return DEFAULT;
+    }
+
+    // Returns a cleared buffer; hand it back with release once its contents have been copied out.
+    public ByteBuffer acquire() {
+        int length = slots.length();
+        int start = length == 0 ? 0 : ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            int index = (start + i) % length;
+            ByteBuffer buffer = slots.getAndSet(index, null);
+            if (buffer != null) {
+                retainedBytes.addAndGet(-buffer.capacity());
+                hits.increment();
+                return buffer.clear();
+            }
+        }
+        misses.increment();
+        return ByteBuffer.allocate(initialCapacity);
+    }
+
+    // Replaces a buffer that overflowed with an empty one of at least twice its capacity and at least minCapacity.
+    public ByteBuffer grow(ByteBuffer buffer, int minCapacity) {
+        int capacity = buffer.capacity();
+        if (capacity >= MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Serialized data exceeds the maximum array size");
+        }
+        grows.increment();
+        return ByteBuffer.allocate((int) Math.min(MAX_ARRAY_SIZE, Math.max(2L * capacity, minCapacity)));
+    }
+
+    public void release(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (capacity > maxBufferCapacity || !reserve(capacity)) {
+            shrinks.increment();
+            return;
+        }
+        int length = slots.length();
+        int start = ThreadLocalRandom.current().nextInt(length);
+        for (int i = 0; i < length; i++) {
+            if (slots.compareAndSet((start + i) % length, null, buffer)) {
+                return;
+            }
+        }
+        retainedBytes.addAndGet(-capacity);
+        shrinks.increment();
+    }
+
+    public BufferPoolStats stats() {
+        return new BufferPoolStats(hits.sum(), misses.sum(), grows.sum(), shrinks.sum(), retainedBytes.get());
+    }
+
+    private boolean reserve(int capacity) {
+        if (slots.length() == 0) {
+            return false;
+        }
+        long current;
+        do {
+            current = retainedBytes.get();
+            if (current + capacity > maxRetainedBytes) {
+                return false;
+            }
+        } while (!retainedBytes.compareAndSet(current, current + capacity));
+        return true;
+    }
+}
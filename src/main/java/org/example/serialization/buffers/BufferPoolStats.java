@@ -0,0 +1,6 @@
+package org.example.serialization.buffers;
+
+// hits: acquires served from the pool, misses: acquires that allocated, grows: buffers replaced by a larger one,
+// shrinks: buffers dropped on release for being too large or over the retained limit.
+public record BufferPoolStats(long hits, long misses, long grows, long shrinks, long retainedBytes) {
+}
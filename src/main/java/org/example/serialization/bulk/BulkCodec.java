@@ -0,0 +1,35 @@
+package org.example.serialization.bulk;
+
+import java.nio.ByteBuffer;
+
+// Bulk little endian transfers between primitive arrays and a buffer, used for array fields.
+// Each method starts at the buffer's position and advances it past the bytes it wrote or read; the buffer's order is
+// left untouched. Callers check the remaining space first.
+public interface BulkCodec {
+
+    void putDoubles(ByteBuffer buffer, double[] values, int offset, int count);
+
+    void getDoubles(ByteBuffer buffer, double[] values, int offset, int count);
+
+    void putFloats(ByteBuffer buffer, float[] values, int offset, int count);
+
+    void getFloats(ByteBuffer buffer, float[] values, int offset, int count);
+
+    void putLongs(ByteBuffer buffer, long[] values, int offset, int count);
+
+    void getLongs(ByteBuffer buffer, long[] values, int offset, int count);
+
+    void putInts(ByteBuffer buffer, int[] values, int offset, int count);
+
+    void getInts(ByteBuffer buffer, int[] values, int offset, int count);
+
+    // ByteIntSerializer layout: the low byte of each value, read back unsigned.
+    void putIntsAsBytes(ByteBuffer buffer, int[] values, int offset, int count);
+
+    void getIntsFromBytes(ByteBuffer buffer, int[] values, int offset, int count);
+
+    // LongFrom4ByteSerializer layout: the low four bytes of each value, read back signed.
+    void putLongsAsInts(ByteBuffer buffer, long[] values, int offset, int count);
+
+    void getLongsFromInts(ByteBuffer buffer, long[] values, int offset, int count);
+}
@@ -0,0 +1,50 @@
+package org.example.serialization.bulk;
+
+import java.util.Locale;
+
+// Picks the BulkCodec used by array fields. The Vector API version is used when the JVM was started with
+// --add-modules jdk.incubator.vector and the hardware has vectors of at least 128 bits, unless
+// -Dboconverter.bulk=scalar asks for the scalar one.
+public final class BulkCodecs {
+    public static final String BULK_PROPERTY = "boconverter.bulk";
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final BulkCodec SCALAR = new ScalarBulkCodec();
+    private static final BulkCodec VECTOR = loadVector();
+    private static final BulkCodec SELECTED = select(System.getProperty(BULK_PROPERTY));
+
+    private BulkCodecs() {
+    }
+
+    public static BulkCodec get() {
+        return SELECTED;
+    }
+
+    public static BulkCodec scalar() {
+        return SCALAR;
+    }
+
+    // The Vector API implementation, or null when it cannot be used in this JVM.
+    public static BulkCodec vector() {
+        return VECTOR;
+    }
+
+    private static BulkCodec select(String value) {
+        if (value != null && value.trim().toLowerCase(Locale.ROOT).equals("scalar")) {
+            return SCALAR;
+        }
+        return VECTOR != null ? VECTOR : SCALAR;
+    }
+
+    private static BulkCodec loadVector() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (BulkCodec) Class.forName(BulkCodecs.class.getPackageName() + ".VectorBulkCodec")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.serialization.bulk;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Copies through typed little endian views of the buffer, which the JDK turns into plain memory copies on little
+// endian hardware. The narrowing transfers are simple loops.
+class ScalarBulkCodec implements BulkCodec {
+
+    @Override
+    public void putDoubles(ByteBuffer buffer, double[] values, int offset, int count) {
+        putWindow(buffer, count * Double.BYTES).asDoubleBuffer().put(values, offset, count);
+        skip(buffer, count * Double.BYTES);
+    }
+
+    @Override
+    public void getDoubles(ByteBuffer buffer, double[] values, int offset, int count) {
+        getWindow(buffer, count * Double.BYTES).asDoubleBuffer().get(values, offset, count);
+        skip(buffer, count * Double.BYTES);
+    }
+
+    @Override
+    public void putFloats(ByteBuffer buffer, float[] values, int offset, int count) {
+        putWindow(buffer, count * Float.BYTES).asFloatBuffer().put(values, offset, count);
+        skip(buffer, count * Float.BYTES);
+    }
+
+    @Override
+    public void getFloats(ByteBuffer buffer, float[] values, int offset, int count) {
+        getWindow(buffer, count * Float.BYTES).asFloatBuffer().get(values, offset, count);
+        skip(buffer, count * Float.BYTES);
+    }
+
+    @Override
+    public void putLongs(ByteBuffer buffer, long[] values, int offset, int count) {
+        putWindow(buffer, count * Long.BYTES).asLongBuffer().put(values, offset, count);
+        skip(buffer, count * Long.BYTES);
+    }
+
+    @Override
+    public void getLongs(ByteBuffer buffer, long[] values, int offset, int count) {
+        getWindow(buffer, count * Long.BYTES).asLongBuffer().get(values, offset, count);
+        skip(buffer, count * Long.BYTES);
+    }
+
+    @Override
+    public void putInts(ByteBuffer buffer, int[] values, int offset, int count) {
+        putWindow(buffer, count * Integer.BYTES).asIntBuffer().put(values, offset, count);
+        skip(buffer, count * Integer.BYTES);
+    }
+
+    @Override
+    public void getInts(ByteBuffer buffer, int[] values, int offset, int count) {
+        getWindow(buffer, count * Integer.BYTES).asIntBuffer().get(values, offset, count);
+        skip(buffer, count * Integer.BYTES);
+    }
+
+    @Override
+    public void putIntsAsBytes(ByteBuffer buffer, int[] values, int offset, int count) {
+        claimPut(buffer, count);
+        for (int i = offset; i < offset + count; i++) {
+            buffer.put((byte) values[i]);
+        }
+    }
+
+    @Override
+    public void getIntsFromBytes(ByteBuffer buffer, int[] values, int offset, int count) {
+        claimGet(buffer, count);
+        for (int i = offset; i < offset + count; i++) {
+            values[i] = buffer.get() & 0xFF;
+        }
+    }
+
+    @Override
+    public void putLongsAsInts(ByteBuffer buffer, long[] values, int offset, int count) {
+        ByteBuffer window = putWindow(buffer, count * Integer.BYTES);
+        for (int i = 0; i < count; i++) {
+            window.putInt(i * Integer.BYTES, (int) values[offset + i]);
+        }
+        skip(buffer, count * Integer.BYTES);
+    }
+
+    @Override
+    public void getLongsFromInts(ByteBuffer buffer, long[] values, int offset, int count) {
+        ByteBuffer window = getWindow(buffer, count * Integer.BYTES);
+        for (int i = 0; i < count; i++) {
+            values[offset + i] = window.getInt(i * Integer.BYTES);
+        }
+        skip(buffer, count * Integer.BYTES);
+    }
+
+    // Like ByteBuffer's relative bulk transfers, a transfer that does not fit before the limit fails before touching the
+    // buffer. The claims return the position the transfer starts at.
+    static int claimPut(ByteBuffer buffer, int length) {
+        int position = buffer.position();
+        if (buffer.limit() - position < length) {
+            throw new BufferOverflowException();
+        }
+        return position;
+    }
+
+    static int claimGet(ByteBuffer buffer, int length) {
+        int position = buffer.position();
+        if (buffer.limit() - position < length) {
+            throw new BufferUnderflowException();
+        }
+        return position;
+    }
+
+    static ByteBuffer putWindow(ByteBuffer buffer, int length) {
+        return buffer.slice(claimPut(buffer, length), length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static ByteBuffer getWindow(ByteBuffer buffer, int length) {
+        return buffer.slice(claimGet(buffer, length), length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static void skip(ByteBuffer buffer, int length) {
+        buffer.position(buffer.position() + length);
+    }
+}
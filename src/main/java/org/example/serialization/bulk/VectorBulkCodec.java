@@ -0,0 +1,116 @@
+package org.example.serialization.bulk;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Vector API version of the narrowing transfers. Only loaded by BulkCodecs once jdk.incubator.vector is known to be
+// present, so nothing else may reference this class directly. Plain transfers stay on ScalarBulkCodec's typed views,
+// which are already memory copies and measured as fast as vector loops. The vectors load from and store to the heap
+// buffer's array; JDK 17 does not reliably intrinsify the ByteBuffer variants, so other buffers use the scalar loops.
+// Whole vectors go through the vector loops and the last partial vector through the scalar code.
+final class VectorBulkCodec extends ScalarBulkCodec {
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    // Narrowing keeps the lane count: 8 or more ints to a byte vector of 64 bits or more, longs to ints of half the size.
+    private static final VectorSpecies<Integer> BYTE_INTS = INTS.length() >= 8 ? INTS : IntVector.SPECIES_256;
+    private static final VectorSpecies<Byte> INT_BYTES = VectorSpecies.of(byte.class, VectorShape.forBitSize(BYTE_INTS.length() * Byte.SIZE));
+    private static final VectorSpecies<Integer> LONG_INTS = VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.length() * Integer.SIZE));
+
+    VectorBulkCodec() {
+        if (VectorShape.preferredShape().vectorBitSize() < 128) {
+            throw new UnsupportedOperationException("No vector support on this platform");
+        }
+    }
+
+    @Override
+    public void putIntsAsBytes(ByteBuffer buffer, int[] values, int offset, int count) {
+        if (!buffer.hasArray()) {
+            super.putIntsAsBytes(buffer, values, offset, count);
+            return;
+        }
+        byte[] array = buffer.array();
+        int base = buffer.arrayOffset() + claimPut(buffer, count);
+        int bound = BYTE_INTS.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += BYTE_INTS.length()) {
+            IntVector.fromArray(BYTE_INTS, values, offset + i)
+                    .convertShape(VectorOperators.I2B, INT_BYTES, 0)
+                    .reinterpretAsBytes()
+                    .intoByteArray(array, base + i, ORDER);
+        }
+        for (; i < count; i++) {
+            array[base + i] = (byte) values[offset + i];
+        }
+        skip(buffer, count);
+    }
+
+    @Override
+    public void getIntsFromBytes(ByteBuffer buffer, int[] values, int offset, int count) {
+        if (!buffer.hasArray()) {
+            super.getIntsFromBytes(buffer, values, offset, count);
+            return;
+        }
+        byte[] array = buffer.array();
+        int base = buffer.arrayOffset() + claimGet(buffer, count);
+        int bound = BYTE_INTS.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += BYTE_INTS.length()) {
+            ((IntVector) ByteVector.fromByteArray(INT_BYTES, array, base + i, ORDER)
+                    .convertShape(VectorOperators.B2I, BYTE_INTS, 0))
+                    .and(0xFF)
+                    .intoArray(values, offset + i);
+        }
+        for (; i < count; i++) {
+            values[offset + i] = array[base + i] & 0xFF;
+        }
+        skip(buffer, count);
+    }
+
+    @Override
+    public void putLongsAsInts(ByteBuffer buffer, long[] values, int offset, int count) {
+        if (!buffer.hasArray()) {
+            super.putLongsAsInts(buffer, values, offset, count);
+            return;
+        }
+        byte[] array = buffer.array();
+        int base = buffer.arrayOffset() + claimPut(buffer, count * Integer.BYTES);
+        int bound = LONGS.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += LONGS.length()) {
+            LongVector.fromArray(LONGS, values, offset + i)
+                    .convertShape(VectorOperators.L2I, LONG_INTS, 0)
+                    .reinterpretAsBytes()
+                    .intoByteArray(array, base + i * Integer.BYTES, ORDER);
+        }
+        skip(buffer, i * Integer.BYTES);
+        super.putLongsAsInts(buffer, values, offset + i, count - i);
+    }
+
+    @Override
+    public void getLongsFromInts(ByteBuffer buffer, long[] values, int offset, int count) {
+        if (!buffer.hasArray()) {
+            super.getLongsFromInts(buffer, values, offset, count);
+            return;
+        }
+        byte[] array = buffer.array();
+        int base = buffer.arrayOffset() + claimGet(buffer, count * Integer.BYTES);
+        int bound = LONGS.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += LONGS.length()) {
+            IntVector.fromByteArray(LONG_INTS, array, base + i * Integer.BYTES, ORDER)
+                    .convertShape(VectorOperators.I2L, LONGS, 0)
+                    .reinterpretAsLongs()
+                    .intoArray(values, offset + i);
+        }
+        skip(buffer, i * Integer.BYTES);
+        super.getLongsFromInts(buffer, values, offset + i, count - i);
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.serialization.codecs;
+
+public enum CodecMode {
+    // Always walk the cached reflective schema.
+    REFLECTION,
+    // Always use a codec generated at runtime as a hidden class; fails if one cannot be generated.
+    GENERATED,
+    // Prefer a codec from the annotation processor, then a runtime generated one, then reflection.
+    AUTO
+}
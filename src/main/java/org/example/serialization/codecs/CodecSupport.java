@@ -0,0 +1,171 @@
+package org.example.serialization.codecs;
+
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
+import org.example.serialization.dataclass.SerializedFieldAttributes;
+import org.example.serialization.interfaces.PrimitiveSerializer;
+import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.serializers.IntegerSerializer;
+import org.example.serialization.serializers.ObjectSerializer;
+
+import java.nio.ByteBuffer;
+
+// Field level read and write steps shared by ObjectSerializer's reflective path and generated codecs.
+public final class CodecSupport {
+    private CodecSupport() {
+    }
+
+    public static <T> void writeValue(ByteBuffer buffer, Serializer<T> serializer, T value, SerializedFieldAttributes attributes) {
+        if (value == null && !attributes.getIsRequired()) {
+            return;
+        }
+        buffer.put(attributes.identifier);
+        serializer.write(buffer, value, attributes);
+    }
+
+    // Primitive fields are never null, so unlike writeValue they are always written, whether required or not.
+    public static void writeInt(ByteBuffer buffer, PrimitiveSerializer.OfInt serializer, int value, SerializedFieldAttributes attributes) {
+        buffer.put(attributes.identifier);
+        serializer.writeInt(buffer, value);
+    }
+
+    public static void writeLong(ByteBuffer buffer, PrimitiveSerializer.OfLong serializer, long value, SerializedFieldAttributes attributes) {
+        buffer.put(attributes.identifier);
+        serializer.writeLong(buffer, value);
+    }
+
+    public static void writeDouble(ByteBuffer buffer, PrimitiveSerializer.OfDouble serializer, double value, SerializedFieldAttributes attributes) {
+        buffer.put(attributes.identifier);
+        serializer.writeDouble(buffer, value);
+    }
+
+    public static void writeFloat(ByteBuffer buffer, PrimitiveSerializer.OfFloat serializer, float value, SerializedFieldAttributes attributes) {
+        buffer.put(attributes.identifier);
+        serializer.writeFloat(buffer, value);
+    }
+
+    public static void writeShort(ByteBuffer buffer, PrimitiveSerializer.OfShort serializer, short value, SerializedFieldAttributes attributes) {
+        buffer.put(attributes.identifier);
+        serializer.writeShort(buffer, value);
+    }
+
+    public static void writeBoolean(ByteBuffer buffer, PrimitiveSerializer.OfBoolean serializer, boolean value, SerializedFieldAttributes attributes) {
+        buffer.put(attributes.identifier);
+        serializer.writeBoolean(buffer, value);
+    }
+
+    // Nested objects are written straight into the parent's buffer and their length is patched in afterwards.
+    public static void writeNested(ByteBuffer buffer, Object value, SerializedFieldAttributes attributes, ObjectSerializer serializer) {
+        if (value == null) {
+            return;
+        }
+        buffer.put(attributes.identifier);
+        int lengthIndex = buffer.position();
+        BinaryWriter.putIntLE(buffer, 0);
+        serializer.writeObject(value, buffer);
+        BinaryWriter.putIntLE(buffer, lengthIndex, buffer.position() - lengthIndex - Integer.BYTES);
+    }
+
+    // Bytes writeValue produces for this value, including the identifier.
+    public static <T> int sizeOfValue(Serializer<T> serializer, T value, SerializedFieldAttributes attributes) {
+        if (value == null && !attributes.getIsRequired()) {
+            return 0;
+        }
+        return 1 + Math.max(0, serializer.sizeOf(value, attributes));
+    }
+
+    // Bytes the primitive writes produce, including the identifier.
+    public static int sizeOfPrimitive(Serializer<?> serializer) {
+        return 1 + serializer.fixedSize();
+    }
+
+    // Bytes writeNested produces for this value, including the identifier and length prefix.
+    public static int sizeOfNested(Object value, ObjectSerializer serializer) {
+        if (value == null) {
+            return 0;
+        }
+        return 1 + Integer.BYTES + serializer.sizeOf(value);
+    }
+
+    public static int readLength(ByteBuffer buffer) {
+        return BinaryReader.getIntLE(buffer);
+    }
+
+    // The field's own attributes are passed as they are: read takes the wire length separately, and only the byte[]
+    // bridge in Serializer.read, which copies anyway, needs attributes carrying that length.
+    public static <T> T readValue(ByteBuffer buffer, Serializer<T> serializer, int length, SerializedFieldAttributes attributes) {
+        try {
+            return serializer.read(buffer, length, attributes);
+        } catch (Exception e) {
+            throw new RuntimeException("Deserialization failed", e);
+        }
+    }
+
+    // A primitive whose encoded length does not match its serializer is skipped and read as zero or false,
+    // where the boxed readValue would have returned null.
+    public static int readInt(ByteBuffer buffer, PrimitiveSerializer.OfInt serializer, int length) {
+        if (length != serializer.fixedSize()) {
+            buffer.position(buffer.position() + length);
+            return 0;
+        }
+        return serializer.readInt(buffer);
+    }
+
+    public static long readLong(ByteBuffer buffer, PrimitiveSerializer.OfLong serializer, int length) {
+        if (length != serializer.fixedSize()) {
+            buffer.position(buffer.position() + length);
+            return 0L;
+        }
+        return serializer.readLong(buffer);
+    }
+
+    public static double readDouble(ByteBuffer buffer, PrimitiveSerializer.OfDouble serializer, int length) {
+        if (length != serializer.fixedSize()) {
+            buffer.position(buffer.position() + length);
+            return 0.0;
+        }
+        return serializer.readDouble(buffer);
+    }
+
+    public static float readFloat(ByteBuffer buffer, PrimitiveSerializer.OfFloat serializer, int length) {
+        if (length != serializer.fixedSize()) {
+            buffer.position(buffer.position() + length);
+            return 0f;
+        }
+        return serializer.readFloat(buffer);
+    }
+
+    public static short readShort(ByteBuffer buffer, PrimitiveSerializer.OfShort serializer, int length) {
+        if (length != serializer.fixedSize()) {
+            buffer.position(buffer.position() + length);
+            return 0;
+        }
+        return serializer.readShort(buffer);
+    }
+
+    public static boolean readBoolean(ByteBuffer buffer, PrimitiveSerializer.OfBoolean serializer, int length) {
+        if (length != serializer.fixedSize()) {
+            buffer.position(buffer.position() + length);
+            return false;
+        }
+        return serializer.readBoolean(buffer);
+    }
+
+    // Array attributes describe the elements, so unlike readValue the total length is not applied to them.
+    public static <T> T readArray(ByteBuffer buffer, Serializer<T> arraySerializer, int length, SerializedFieldAttributes elementAttributes) {
+        try {
+            return arraySerializer.read(buffer, length, elementAttributes);
+        } catch (Exception e) {
+            throw new RuntimeException("Deserialization failed", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T readNested(ByteBuffer buffer, int length, Class<T> type, ObjectSerializer serializer) throws Exception {
+        return (T) serializer.readObject(buffer, length, type);
+    }
+
+    public static RuntimeException unknownIdentifier(Class<?> type, byte identifier, int position) {
+        return new NullPointerException("Class: " + type.getName() + " No serializer found for typeId: " + identifier + " position " + position);
+    }
+}
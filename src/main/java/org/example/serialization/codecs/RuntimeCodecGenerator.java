@@ -0,0 +1,392 @@
+package org.example.serialization.codecs;
+
+import org.example.serialization.dataclass.ClassSchema;
+import org.example.serialization.dataclass.FieldPlan;
+import org.example.serialization.dataclass.SerializedFieldAttributes;
+import org.example.serialization.interfaces.ObjectCodec;
+import org.example.serialization.interfaces.PrimitiveSerializer;
+import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.managers.ReflectionManager;
+import org.example.serialization.serializers.ObjectSerializer;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.objectweb.asm.Opcodes.*;
+
+// Builds an ObjectCodec for one model at runtime, for classes that were not compiled with the annotation processor.
+// The codec is a hidden nestmate of the model, so it reads and writes even private fields with plain field instructions.
+public final class RuntimeCodecGenerator {
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String BYTE_BUFFER = Type.getInternalName(ByteBuffer.class);
+    private static final String CODEC_SUPPORT = Type.getInternalName(CodecSupport.class);
+    private static final String SERIALIZER = Type.getInternalName(Serializer.class);
+    private static final String ATTRIBUTES = Type.getInternalName(SerializedFieldAttributes.class);
+    private static final String SERIALIZER_DESCRIPTOR = Type.getDescriptor(Serializer.class);
+    private static final String ATTRIBUTES_DESCRIPTOR = Type.getDescriptor(SerializedFieldAttributes.class);
+    private static final String OBJECT_SERIALIZER_DESCRIPTOR = Type.getDescriptor(ObjectSerializer.class);
+    // Local of serialize and sizeOf holding the object cast to the model type, past the parameters of either method.
+    private static final int MODEL = 4;
+
+    private static final ReflectionManager reflectionManager = new ReflectionManager();
+
+    private RuntimeCodecGenerator() {
+    }
+
+    public static ObjectCodec<?> generate(ClassSchema schema) throws ReflectiveOperationException {
+        Class<?> type = schema.type();
+        checkModel(type);
+        List<FieldPlan> fields = schema.fields();
+        Accessor[] accessors = new Accessor[fields.size()];
+        for (int i = 0; i < accessors.length; i++) {
+            accessors[i] = resolveAccessor(fields.get(i));
+        }
+
+        String modelName = Type.getInternalName(type);
+        String codecName = modelName + "$$Codec";
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected ClassLoader getClassLoader() {
+                return type.getClassLoader();
+            }
+        };
+        writer.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, codecName, null, OBJECT,
+                new String[]{Type.getInternalName(ObjectCodec.class)});
+        for (int i = 0; i < fields.size(); i++) {
+            writer.visitField(ACC_PRIVATE | ACC_FINAL, "serializer" + i, SERIALIZER_DESCRIPTOR, null, null).visitEnd();
+            writer.visitField(ACC_PRIVATE | ACC_FINAL, "attributes" + i, ATTRIBUTES_DESCRIPTOR, null, null).visitEnd();
+            writer.visitField(ACC_PRIVATE | ACC_FINAL, "elementAttributes" + i, ATTRIBUTES_DESCRIPTOR, null, null).visitEnd();
+        }
+        writeConstructor(writer, codecName, fields.size());
+        writeSerialize(writer, codecName, modelName, fields, accessors);
+        writeSizeOf(writer, codecName, modelName, fields, accessors);
+        writeDeserialize(writer, codecName, modelName, type, fields, accessors);
+        writer.visitEnd();
+
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                .defineHiddenClass(writer.toByteArray(), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+        Object[] constants = new Object[fields.size() * 3];
+        for (int i = 0; i < fields.size(); i++) {
+            FieldPlan plan = fields.get(i);
+            constants[i * 3] = plan.serializer();
+            constants[i * 3 + 1] = plan.attributes();
+            constants[i * 3 + 2] = plan.elementAttributes();
+        }
+        return (ObjectCodec<?>) lookup.lookupClass().getConstructor(Object[].class).newInstance((Object) constants);
+    }
+
+    private static void checkModel(Class<?> type) throws ReflectiveOperationException {
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || type.isHidden() || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException(type.getName() + " is not a concrete class");
+        }
+        // The codec is defined in the model's class loader and must link against this library's classes, not a copy.
+        if (type.getClassLoader() == null
+                || Class.forName(ObjectCodec.class.getName(), false, type.getClassLoader()) != ObjectCodec.class) {
+            throw new IllegalArgumentException(type.getName() + " cannot see " + ObjectCodec.class.getName());
+        }
+        type.getDeclaredConstructor();
+    }
+
+    // Mirrors ReflectionManager: a public getX/setX pair wins over direct field access.
+    private static Accessor resolveAccessor(FieldPlan plan) {
+        Field field = plan.field();
+        if (Modifier.isStatic(field.getModifiers())) {
+            throw new IllegalArgumentException(field.getName() + " is static");
+        }
+        if (plan.kind() == FieldPlan.Kind.NESTED && field.getType().isPrimitive()) {
+            throw new IllegalArgumentException(field.getName() + " is not an object");
+        }
+        Method getter = null;
+        Method setter = null;
+        try {
+            getter = reflectionManager.getFieldGetterMethod(field);
+        } catch (NoSuchMethodException ignored) {
+        }
+        try {
+            setter = reflectionManager.getFieldSetterMethod(field);
+        } catch (NoSuchMethodException ignored) {
+        }
+        if (getter != null && (Modifier.isStatic(getter.getModifiers()) || getter.getReturnType() == void.class)) {
+            throw new IllegalArgumentException(field.getName() + " has an unusable getter");
+        }
+        if (setter != null && Modifier.isStatic(setter.getModifiers())) {
+            throw new IllegalArgumentException(field.getName() + " has an unusable setter");
+        }
+        if (setter == null && Modifier.isFinal(field.getModifiers())) {
+            throw new IllegalArgumentException(field.getName() + " is final and has no public setter");
+        }
+        if (plan.kind() == FieldPlan.Kind.PRIMITIVE && getter != null && getter.getReturnType() != field.getType()) {
+            throw new IllegalArgumentException(field.getName() + " has a getter that does not return " + field.getType());
+        }
+        return new Accessor(field, getter, setter, plan.kind() == FieldPlan.Kind.PRIMITIVE);
+    }
+
+    private static void writeConstructor(ClassWriter writer, String codecName, int fieldCount) {
+        MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V", null, null);
+        method.visitCode();
+        method.visitVarInsn(ALOAD, 0);
+        method.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        for (int i = 0; i < fieldCount; i++) {
+            storeConstant(method, codecName, "serializer" + i, SERIALIZER, SERIALIZER_DESCRIPTOR, i * 3);
+            storeConstant(method, codecName, "attributes" + i, ATTRIBUTES, ATTRIBUTES_DESCRIPTOR, i * 3 + 1);
+            storeConstant(method, codecName, "elementAttributes" + i, ATTRIBUTES, ATTRIBUTES_DESCRIPTOR, i * 3 + 2);
+        }
+        method.visitInsn(RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    private static void storeConstant(MethodVisitor method, String codecName, String name, String type, String descriptor, int index) {
+        method.visitVarInsn(ALOAD, 0);
+        method.visitVarInsn(ALOAD, 1);
+        method.visitLdcInsn(index);
+        method.visitInsn(AALOAD);
+        method.visitTypeInsn(CHECKCAST, type);
+        method.visitFieldInsn(PUTFIELD, codecName, name, descriptor);
+    }
+
+    // serialize(Object object, ByteBuffer buffer, ObjectSerializer serializer): one writeValue or writeNested call per
+    // field, in declaration order.
+    private static void writeSerialize(ClassWriter writer, String codecName, String modelName, List<FieldPlan> fields, Accessor[] accessors) {
+        MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "serialize",
+                "(Ljava/lang/Object;Ljava/nio/ByteBuffer;" + OBJECT_SERIALIZER_DESCRIPTOR + ")V", null, null);
+        method.visitCode();
+        method.visitVarInsn(ALOAD, 1);
+        method.visitTypeInsn(CHECKCAST, modelName);
+        method.visitVarInsn(ASTORE, MODEL);
+        for (int i = 0; i < fields.size(); i++) {
+            method.visitVarInsn(ALOAD, 2);
+            if (fields.get(i).kind() == FieldPlan.Kind.PRIMITIVE) {
+                Class<?> type = fields.get(i).valueClass();
+                loadPrimitiveSerializer(method, codecName, i, type);
+                loadFieldValue(method, modelName, accessors[i]);
+                loadConstant(method, codecName, "attributes" + i, ATTRIBUTES_DESCRIPTOR);
+                method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "write" + primitiveName(type),
+                        "(Ljava/nio/ByteBuffer;" + Type.getDescriptor(PrimitiveSerializer.forType(type))
+                                + Type.getDescriptor(type) + ATTRIBUTES_DESCRIPTOR + ")V", false);
+            } else if (fields.get(i).kind() == FieldPlan.Kind.NESTED) {
+                loadFieldValue(method, modelName, accessors[i]);
+                loadConstant(method, codecName, "attributes" + i, ATTRIBUTES_DESCRIPTOR);
+                method.visitVarInsn(ALOAD, 3);
+                method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "writeNested",
+                        "(Ljava/nio/ByteBuffer;Ljava/lang/Object;" + ATTRIBUTES_DESCRIPTOR + OBJECT_SERIALIZER_DESCRIPTOR + ")V", false);
+            } else {
+                loadConstant(method, codecName, "serializer" + i, SERIALIZER_DESCRIPTOR);
+                loadFieldValue(method, modelName, accessors[i]);
+                loadConstant(method, codecName, "attributes" + i, ATTRIBUTES_DESCRIPTOR);
+                method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "writeValue",
+                        "(Ljava/nio/ByteBuffer;" + SERIALIZER_DESCRIPTOR + "Ljava/lang/Object;" + ATTRIBUTES_DESCRIPTOR + ")V", false);
+            }
+        }
+        method.visitInsn(RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    // sizeOf(Object object, ObjectSerializer serializer): the sum of sizeOfValue or sizeOfNested over the same fields
+    // serialize writes.
+    private static void writeSizeOf(ClassWriter writer, String codecName, String modelName, List<FieldPlan> fields, Accessor[] accessors) {
+        MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "sizeOf", "(Ljava/lang/Object;" + OBJECT_SERIALIZER_DESCRIPTOR + ")I", null, null);
+        method.visitCode();
+        method.visitVarInsn(ALOAD, 1);
+        method.visitTypeInsn(CHECKCAST, modelName);
+        method.visitVarInsn(ASTORE, MODEL);
+        method.visitInsn(ICONST_0);
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).kind() == FieldPlan.Kind.PRIMITIVE) {
+                loadConstant(method, codecName, "serializer" + i, SERIALIZER_DESCRIPTOR);
+                method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "sizeOfPrimitive", "(" + SERIALIZER_DESCRIPTOR + ")I", false);
+            } else if (fields.get(i).kind() == FieldPlan.Kind.NESTED) {
+                loadFieldValue(method, modelName, accessors[i]);
+                method.visitVarInsn(ALOAD, 2);
+                method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "sizeOfNested", "(Ljava/lang/Object;" + OBJECT_SERIALIZER_DESCRIPTOR + ")I", false);
+            } else {
+                loadConstant(method, codecName, "serializer" + i, SERIALIZER_DESCRIPTOR);
+                loadFieldValue(method, modelName, accessors[i]);
+                loadConstant(method, codecName, "attributes" + i, ATTRIBUTES_DESCRIPTOR);
+                method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "sizeOfValue",
+                        "(" + SERIALIZER_DESCRIPTOR + "Ljava/lang/Object;" + ATTRIBUTES_DESCRIPTOR + ")I", false);
+            }
+            method.visitInsn(IADD);
+        }
+        method.visitInsn(IRETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    // deserialize(ByteBuffer buffer, ObjectSerializer serializer): a lookupswitch on the identifier byte replaces the
+    // schema table lookup. The new object is local 3 and the identifier local 4.
+    private static void writeDeserialize(ClassWriter writer, String codecName, String modelName, Class<?> type,
+                                         List<FieldPlan> fields, Accessor[] accessors) {
+        MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "deserialize",
+                "(Ljava/nio/ByteBuffer;" + OBJECT_SERIALIZER_DESCRIPTOR + ")Ljava/lang/Object;", null,
+                new String[]{Type.getInternalName(Exception.class)});
+        method.visitCode();
+        method.visitTypeInsn(NEW, modelName);
+        method.visitInsn(DUP);
+        method.visitMethodInsn(INVOKESPECIAL, modelName, "<init>", "()V", false);
+        method.visitVarInsn(ASTORE, 3);
+
+        // The first field declaring an identifier wins, as in ClassSchema.
+        Map<Integer, Integer> fieldsByIdentifier = new TreeMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            fieldsByIdentifier.putIfAbsent((int) fields.get(i).identifier(), i);
+        }
+        int[] keys = new int[fieldsByIdentifier.size()];
+        Label[] labels = new Label[keys.length];
+        int index = 0;
+        for (int key : fieldsByIdentifier.keySet()) {
+            keys[index] = key;
+            labels[index++] = new Label();
+        }
+
+        Label loop = new Label();
+        Label end = new Label();
+        Label unknown = new Label();
+        method.visitLabel(loop);
+        method.visitVarInsn(ALOAD, 1);
+        method.visitMethodInsn(INVOKEVIRTUAL, BYTE_BUFFER, "hasRemaining", "()Z", false);
+        method.visitJumpInsn(IFEQ, end);
+        method.visitVarInsn(ALOAD, 1);
+        method.visitMethodInsn(INVOKEVIRTUAL, BYTE_BUFFER, "get", "()B", false);
+        method.visitVarInsn(ISTORE, 4);
+        method.visitVarInsn(ILOAD, 4);
+        method.visitLookupSwitchInsn(unknown, keys, labels);
+
+        for (int i = 0; i < keys.length; i++) {
+            int fieldIndex = fieldsByIdentifier.get(keys[i]);
+            method.visitLabel(labels[i]);
+            method.visitVarInsn(ALOAD, 3);
+            readFieldValue(method, codecName, fields.get(fieldIndex), fieldIndex);
+            storeFieldValue(method, modelName, accessors[fieldIndex]);
+            method.visitJumpInsn(GOTO, loop);
+        }
+
+        method.visitLabel(unknown);
+        method.visitLdcInsn(Type.getType(type));
+        method.visitVarInsn(ILOAD, 4);
+        method.visitVarInsn(ALOAD, 1);
+        method.visitMethodInsn(INVOKEVIRTUAL, BYTE_BUFFER, "position", "()I", false);
+        method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "unknownIdentifier", "(Ljava/lang/Class;BI)Ljava/lang/RuntimeException;", false);
+        method.visitInsn(ATHROW);
+
+        method.visitLabel(end);
+        method.visitVarInsn(ALOAD, 3);
+        method.visitInsn(ARETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+
+    private static void readFieldValue(MethodVisitor method, String codecName, FieldPlan plan, int index) {
+        method.visitVarInsn(ALOAD, 1);
+        if (plan.kind() == FieldPlan.Kind.NESTED) {
+            loadLength(method, plan);
+            method.visitLdcInsn(Type.getType(plan.valueClass()));
+            method.visitVarInsn(ALOAD, 2);
+            method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "readNested",
+                    "(Ljava/nio/ByteBuffer;ILjava/lang/Class;" + OBJECT_SERIALIZER_DESCRIPTOR + ")Ljava/lang/Object;", false);
+            return;
+        }
+        if (plan.kind() == FieldPlan.Kind.PRIMITIVE) {
+            Class<?> type = plan.valueClass();
+            loadPrimitiveSerializer(method, codecName, index, type);
+            loadLength(method, plan);
+            method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "read" + primitiveName(type),
+                    "(Ljava/nio/ByteBuffer;" + Type.getDescriptor(PrimitiveSerializer.forType(type)) + "I)" + Type.getDescriptor(type), false);
+            return;
+        }
+        loadConstant(method, codecName, "serializer" + index, SERIALIZER_DESCRIPTOR);
+        loadLength(method, plan);
+        if (plan.kind() == FieldPlan.Kind.ARRAY) {
+            loadConstant(method, codecName, "elementAttributes" + index, ATTRIBUTES_DESCRIPTOR);
+            method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "readArray",
+                    "(Ljava/nio/ByteBuffer;" + SERIALIZER_DESCRIPTOR + "I" + ATTRIBUTES_DESCRIPTOR + ")Ljava/lang/Object;", false);
+        } else {
+            loadConstant(method, codecName, "attributes" + index, ATTRIBUTES_DESCRIPTOR);
+            method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "readValue",
+                    "(Ljava/nio/ByteBuffer;" + SERIALIZER_DESCRIPTOR + "I" + ATTRIBUTES_DESCRIPTOR + ")Ljava/lang/Object;", false);
+        }
+    }
+
+    private static void loadLength(MethodVisitor method, FieldPlan plan) {
+        if (plan.length() == 0 || plan.kind() == FieldPlan.Kind.ARRAY) {
+            method.visitVarInsn(ALOAD, 1);
+            method.visitMethodInsn(INVOKESTATIC, CODEC_SUPPORT, "readLength", "(Ljava/nio/ByteBuffer;)I", false);
+        } else {
+            method.visitLdcInsn(plan.length());
+        }
+    }
+
+    private static void loadPrimitiveSerializer(MethodVisitor method, String codecName, int index, Class<?> type) {
+        loadConstant(method, codecName, "serializer" + index, SERIALIZER_DESCRIPTOR);
+        method.visitTypeInsn(CHECKCAST, Type.getInternalName(PrimitiveSerializer.forType(type)));
+    }
+
+    // Suffix of the CodecSupport and PrimitiveSerializer methods for a primitive type, e.g. Int for int.
+    private static String primitiveName(Class<?> type) {
+        String name = type.getName();
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static void loadConstant(MethodVisitor method, String codecName, String name, String descriptor) {
+        method.visitVarInsn(ALOAD, 0);
+        method.visitFieldInsn(GETFIELD, codecName, name, descriptor);
+    }
+
+    private static void loadFieldValue(MethodVisitor method, String modelName, Accessor accessor) {
+        method.visitVarInsn(ALOAD, MODEL);
+        Class<?> valueType;
+        if (accessor.getter() != null) {
+            method.visitMethodInsn(INVOKEVIRTUAL, modelName, accessor.getter().getName(), Type.getMethodDescriptor(accessor.getter()), false);
+            valueType = accessor.getter().getReturnType();
+        } else {
+            method.visitFieldInsn(GETFIELD, modelName, accessor.field().getName(), Type.getDescriptor(accessor.field().getType()));
+            valueType = accessor.field().getType();
+        }
+        if (valueType.isPrimitive() && !accessor.primitive()) {
+            Class<?> wrapper = MethodType.methodType(valueType).wrap().returnType();
+            method.visitMethodInsn(INVOKESTATIC, Type.getInternalName(wrapper), "valueOf",
+                    "(" + Type.getDescriptor(valueType) + ")" + Type.getDescriptor(wrapper), false);
+        }
+    }
+
+    private static void storeFieldValue(MethodVisitor method, String modelName, Accessor accessor) {
+        Class<?> fieldType = accessor.field().getType();
+        // Values of PRIMITIVE fields are read unboxed and already have the field's type.
+        if (fieldType.isPrimitive() && !accessor.primitive()) {
+            Class<?> wrapper = MethodType.methodType(fieldType).wrap().returnType();
+            method.visitTypeInsn(CHECKCAST, Type.getInternalName(wrapper));
+            method.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(wrapper), fieldType.getName() + "Value",
+                    "()" + Type.getDescriptor(fieldType), false);
+        } else if (!fieldType.isPrimitive() && fieldType != Object.class) {
+            method.visitTypeInsn(CHECKCAST, Type.getInternalName(fieldType));
+        }
+        if (accessor.setter() != null) {
+            Method setter = accessor.setter();
+            method.visitMethodInsn(INVOKEVIRTUAL, modelName, setter.getName(), Type.getMethodDescriptor(setter), false);
+            Class<?> returnType = setter.getReturnType();
+            if (returnType == long.class || returnType == double.class) {
+                method.visitInsn(POP2);
+            } else if (returnType != void.class) {
+                method.visitInsn(POP);
+            }
+        } else {
+            method.visitFieldInsn(PUTFIELD, modelName, accessor.field().getName(), Type.getDescriptor(fieldType));
+        }
+    }
+
+    // primitive marks PRIMITIVE fields, whose values stay unboxed on the operand stack.
+    private record Accessor(Field field, Method getter, Method setter, boolean primitive) {
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.serialization.collections;
+
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// A growable list of double values backed by a double[]. The List<Double> methods box on access; the double methods and
+// the bulk transfers to and from a DoubleBuffer do not.
+public final class DoubleList extends AbstractList<Double> implements RandomAccess {
+    private static final double[] EMPTY = {};
+
+    private double[] elements;
+    private int size;
+
+    public DoubleList() {
+        this.elements = EMPTY;
+    }
+
+    public DoubleList(int capacity) {
+        this.elements = capacity == 0 ? EMPTY : new double[capacity];
+    }
+
+    public static DoubleList of(double... values) {
+        DoubleList list = new DoubleList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    public double getDouble(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    public double setDouble(int index, double value) {
+        Objects.checkIndex(index, size);
+        double previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void addDouble(double value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+        modCount++;
+    }
+
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    // Copies every element into target at its position.
+    public void writeTo(DoubleBuffer target) {
+        target.put(elements, 0, size);
+    }
+
+    // Appends the remaining values of source.
+    public void addFrom(DoubleBuffer source) {
+        int count = source.remaining();
+        ensureCapacity(size + count);
+        source.get(elements, size, count);
+        size += count;
+        modCount++;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(minCapacity, Math.max(10, elements.length + (elements.length >> 1))));
+        }
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public Double set(int index, Double value) {
+        return setDouble(index, value);
+    }
+
+    @Override
+    public void add(int index, Double value) {
+        Objects.checkIndex(index, size + 1);
+        double unboxed = value;
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = unboxed;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Double remove(int index) {
+        Objects.checkIndex(index, size);
+        double previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.serialization.collections;
+
+import java.nio.FloatBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// A growable list of float values backed by a float[]. The List<Float> methods box on access; the float methods and
+// the bulk transfers to and from a FloatBuffer do not.
+public final class FloatList extends AbstractList<Float> implements RandomAccess {
+    private static final float[] EMPTY = {};
+
+    private float[] elements;
+    private int size;
+
+    public FloatList() {
+        this.elements = EMPTY;
+    }
+
+    public FloatList(int capacity) {
+        this.elements = capacity == 0 ? EMPTY : new float[capacity];
+    }
+
+    public static FloatList of(float... values) {
+        FloatList list = new FloatList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    public float getFloat(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    public float setFloat(int index, float value) {
+        Objects.checkIndex(index, size);
+        float previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void addFloat(float value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+        modCount++;
+    }
+
+    public float[] toFloatArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    // Copies every element into target at its position.
+    public void writeTo(FloatBuffer target) {
+        target.put(elements, 0, size);
+    }
+
+    // Appends the remaining values of source.
+    public void addFrom(FloatBuffer source) {
+        int count = source.remaining();
+        ensureCapacity(size + count);
+        source.get(elements, size, count);
+        size += count;
+        modCount++;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(minCapacity, Math.max(10, elements.length + (elements.length >> 1))));
+        }
+    }
+
+    @Override
+    public Float get(int index) {
+        return getFloat(index);
+    }
+
+    @Override
+    public Float set(int index, Float value) {
+        return setFloat(index, value);
+    }
+
+    @Override
+    public void add(int index, Float value) {
+        Objects.checkIndex(index, size + 1);
+        float unboxed = value;
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = unboxed;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Float remove(int index) {
+        Objects.checkIndex(index, size);
+        float previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.serialization.collections;
+
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// A growable list of int values backed by a int[]. The List<Integer> methods box on access; the int methods and
+// the bulk transfers to and from a IntBuffer do not.
+public final class IntList extends AbstractList<Integer> implements RandomAccess {
+    private static final int[] EMPTY = {};
+
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        this.elements = EMPTY;
+    }
+
+    public IntList(int capacity) {
+        this.elements = capacity == 0 ? EMPTY : new int[capacity];
+    }
+
+    public static IntList of(int... values) {
+        IntList list = new IntList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    public int getInt(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    public int setInt(int index, int value) {
+        Objects.checkIndex(index, size);
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void addInt(int value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+        modCount++;
+    }
+
+    public int[] toIntArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    // Copies every element into target at its position.
+    public void writeTo(IntBuffer target) {
+        target.put(elements, 0, size);
+    }
+
+    // Appends the remaining values of source.
+    public void addFrom(IntBuffer source) {
+        int count = source.remaining();
+        ensureCapacity(size + count);
+        source.get(elements, size, count);
+        size += count;
+        modCount++;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(minCapacity, Math.max(10, elements.length + (elements.length >> 1))));
+        }
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer value) {
+        return setInt(index, value);
+    }
+
+    @Override
+    public void add(int index, Integer value) {
+        Objects.checkIndex(index, size + 1);
+        int unboxed = value;
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = unboxed;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        Objects.checkIndex(index, size);
+        int previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
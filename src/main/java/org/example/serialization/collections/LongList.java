@@ -0,0 +1,115 @@
+package org.example.serialization.collections;
+
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// A growable list of long values backed by a long[]. The List<Long> methods box on access; the long methods and
+// the bulk transfers to and from a LongBuffer do not.
+public final class LongList extends AbstractList<Long> implements RandomAccess {
+    private static final long[] EMPTY = {};
+
+    private long[] elements;
+    private int size;
+
+    public LongList() {
+        this.elements = EMPTY;
+    }
+
+    public LongList(int capacity) {
+        this.elements = capacity == 0 ? EMPTY : new long[capacity];
+    }
+
+    public static LongList of(long... values) {
+        LongList list = new LongList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    public long getLong(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    public long setLong(int index, long value) {
+        Objects.checkIndex(index, size);
+        long previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void addLong(long value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+        modCount++;
+    }
+
+    public long[] toLongArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    // Copies every element into target at its position.
+    public void writeTo(LongBuffer target) {
+        target.put(elements, 0, size);
+    }
+
+    // Appends the remaining values of source.
+    public void addFrom(LongBuffer source) {
+        int count = source.remaining();
+        ensureCapacity(size + count);
+        source.get(elements, size, count);
+        size += count;
+        modCount++;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(minCapacity, Math.max(10, elements.length + (elements.length >> 1))));
+        }
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public Long set(int index, Long value) {
+        return setLong(index, value);
+    }
+
+    @Override
+    public void add(int index, Long value) {
+        Objects.checkIndex(index, size + 1);
+        long unboxed = value;
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = unboxed;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Long remove(int index) {
+        Objects.checkIndex(index, size);
+        long previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
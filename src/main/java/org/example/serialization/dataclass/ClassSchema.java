@@ -0,0 +1,73 @@
+package org.example.serialization.dataclass;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class ClassSchema {
+    private final Class<?> type;
+    private final List<FieldPlan> fields;
+    // Indexed by the unsigned identifier byte; the first field declaring an identifier wins.
+    private final FieldPlan[] fieldsByIdentifier = new FieldPlan[256];
+    private final int[] indexByIdentifier = new int[256];
+    private final int fixedSize;
+
+    public ClassSchema(Class<?> type, List<FieldPlan> fields) {
+        this.type = type;
+        this.fields = List.copyOf(fields);
+        Arrays.fill(indexByIdentifier, -1);
+        for (int i = 0; i < this.fields.size(); i++) {
+            FieldPlan plan = this.fields.get(i);
+            int index = plan.identifier() & 0xFF;
+            if (fieldsByIdentifier[index] == null) {
+                fieldsByIdentifier[index] = plan;
+                indexByIdentifier[index] = i;
+            }
+        }
+        this.fixedSize = computeFixedSize(this.fields);
+    }
+
+    // Primitive and required fixed width fields are always written, so a class made only of them encodes to a constant size.
+    private static int computeFixedSize(List<FieldPlan> fields) {
+        int size = 0;
+        for (FieldPlan plan : fields) {
+            boolean alwaysWritten = plan.kind() == FieldPlan.Kind.PRIMITIVE
+                    || (plan.kind() == FieldPlan.Kind.SIMPLE && plan.required());
+            if (!alwaysWritten || plan.serializer().fixedSize() < 0) {
+                return -1;
+            }
+            size += 1 + plan.serializer().fixedSize();
+        }
+        return size;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public List<FieldPlan> fields() {
+        return fields;
+    }
+
+    // Encoded size of every instance, or -1 when it depends on the field values.
+    public int fixedSize() {
+        return fixedSize;
+    }
+
+    public FieldPlan fieldFor(byte identifier) {
+        return fieldsByIdentifier[identifier & 0xFF];
+    }
+
+    // Position in fields() of the field fieldFor returns, or -1.
+    public int indexFor(byte identifier) {
+        return indexByIdentifier[identifier & 0xFF];
+    }
+
+    public int indexOf(String fieldName) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).field().getName().equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
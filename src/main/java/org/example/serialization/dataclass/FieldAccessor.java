@@ -0,0 +1,141 @@
+package org.example.serialization.dataclass;
+
+import java.lang.invoke.MethodHandle;
+
+// getter is typed (Object)Object and setter (Object,Object)void so both can be called with invokeExact.
+// Primitive fields also get primitiveGetter (Object)p and primitiveSetter (Object,p)void, so they are accessed without boxing.
+public record FieldAccessor(MethodHandle getter, MethodHandle setter, MethodHandle primitiveGetter, MethodHandle primitiveSetter) {
+
+    public FieldAccessor(MethodHandle getter, MethodHandle setter) {
+        this(getter, setter, null, null);
+    }
+
+    public Object get(Object object) {
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void set(Object object, Object value) {
+        try {
+            writableSetter(setter).invokeExact(object, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public int getInt(Object object) {
+        try {
+            return (int) primitiveGetter.invokeExact(object);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setInt(Object object, int value) {
+        try {
+            writableSetter(primitiveSetter).invokeExact(object, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public long getLong(Object object) {
+        try {
+            return (long) primitiveGetter.invokeExact(object);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setLong(Object object, long value) {
+        try {
+            writableSetter(primitiveSetter).invokeExact(object, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public double getDouble(Object object) {
+        try {
+            return (double) primitiveGetter.invokeExact(object);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setDouble(Object object, double value) {
+        try {
+            writableSetter(primitiveSetter).invokeExact(object, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public float getFloat(Object object) {
+        try {
+            return (float) primitiveGetter.invokeExact(object);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setFloat(Object object, float value) {
+        try {
+            writableSetter(primitiveSetter).invokeExact(object, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public short getShort(Object object) {
+        try {
+            return (short) primitiveGetter.invokeExact(object);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setShort(Object object, short value) {
+        try {
+            writableSetter(primitiveSetter).invokeExact(object, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public boolean getBoolean(Object object) {
+        try {
+            return (boolean) primitiveGetter.invokeExact(object);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setBoolean(Object object, boolean value) {
+        try {
+            writableSetter(primitiveSetter).invokeExact(object, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static MethodHandle writableSetter(MethodHandle setter) {
+        if (setter == null) {
+            throw new UnsupportedOperationException("Field is not writable");
+        }
+        return setter;
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException e) {
+            return e;
+        }
+        if (t instanceof Error e) {
+            throw e;
+        }
+        return new RuntimeException(t);
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.serialization.dataclass;
+
+import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.interfaces.Serializer;
+
+import java.lang.reflect.Field;
+
+public record FieldPlan(Field field, FieldAccessor accessor, SerializedField serializedField, Kind kind, Serializer<Object> serializer,
+                        Serializer<Object> elementSerializer, Class<?> valueClass, SerializedFieldAttributes attributes,
+                        SerializedFieldAttributes elementAttributes) {
+
+    public enum Kind {
+        SIMPLE,
+        // A primitive typed field, written through the serializer's PrimitiveSerializer entry points.
+        PRIMITIVE,
+        ARRAY,
+        NESTED
+    }
+
+    public Object get(Object object) {
+        return accessor.get(object);
+    }
+
+    public void set(Object object, Object value) {
+        accessor.set(object, value);
+    }
+
+    public byte identifier() {
+        return serializedField.identifier();
+    }
+
+    public int length() {
+        return serializedField.length();
+    }
+
+    public boolean required() {
+        return serializedField.required();
+    }
+
+    public boolean isObjectArray() {
+        return kind == Kind.ARRAY && serializedField.innerType() == Object.class;
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.serialization.dataclass;
+
+import java.util.UUID;
+
+// The two halves of a UUID, for fields encoded with UUIDBitsSerializer. Mutable, so decoding into an existing
+// instance overwrites the halves instead of allocating.
+public final class UUIDBits {
+    private long mostSignificantBits;
+    private long leastSignificantBits;
+
+    public UUIDBits() {
+    }
+
+    public UUIDBits(long mostSignificantBits, long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+    }
+
+    public static UUIDBits of(UUID uuid) {
+        return new UUIDBits(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    public void set(long mostSignificantBits, long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+    }
+
+    public UUID toUUID() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return object instanceof UUIDBits other
+                && mostSignificantBits == other.mostSignificantBits
+                && leastSignificantBits == other.leastSignificantBits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(mostSignificantBits ^ leastSignificantBits);
+    }
+
+    @Override
+    public String toString() {
+        return toUUID().toString();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.serialization.exceptions;
+
+// Thrown when a caller supplied buffer cannot hold a message. Nothing is consumed from the buffer,
+// so the caller can retry with one of at least getRequiredSize() remaining bytes.
+public class BufferTooSmallException extends Exception {
+    private final int requiredSize;
+    private final int availableSize;
+
+    public BufferTooSmallException(int requiredSize, int availableSize) {
+        super("Serialized data needs " + requiredSize + " bytes but only " + availableSize + " are available");
+        this.requiredSize = requiredSize;
+        this.availableSize = availableSize;
+    }
+
+    public int getRequiredSize() {
+        return requiredSize;
+    }
+
+    public int getAvailableSize() {
+        return availableSize;
+    }
+}
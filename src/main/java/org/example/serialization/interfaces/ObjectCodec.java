@@ -0,0 +1,18 @@
+package org.example.serialization.interfaces;
+
+import org.example.serialization.serializers.ObjectSerializer;
+
+import java.nio.ByteBuffer;
+
+// Serializes all annotated fields of one class. Implementations are generated from @SerializedField
+// and must produce exactly the bytes ObjectSerializer's reflective path does. serializer is the ObjectSerializer
+// working on the message; nested objects go back through it, so they use its pools like the reflective path does.
+public interface ObjectCodec<T> {
+    void serialize(T object, ByteBuffer buffer, ObjectSerializer serializer);
+
+    // Exact number of bytes serialize writes for this object.
+    int sizeOf(T object, ObjectSerializer serializer);
+
+    // Reads fields until the buffer's limit, which marks the end of the object.
+    T deserialize(ByteBuffer buffer, ObjectSerializer serializer) throws Exception;
+}
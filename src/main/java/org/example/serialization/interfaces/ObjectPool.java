@@ -0,0 +1,22 @@
+package org.example.serialization.interfaces;
+
+// Supplies and takes back nested instances while ObjectSerializer.deserializeInto decodes into existing objects.
+// Pools are shared between decodes, so implementations must be thread safe.
+public interface ObjectPool {
+    ObjectPool NONE = new ObjectPool() {
+        @Override
+        public <T> T acquire(Class<T> type) {
+            return null;
+        }
+
+        @Override
+        public void release(Object object) {
+        }
+    };
+
+    // An instance of exactly type whose fields will all be overwritten, or null to have the decoder construct one.
+    <T> T acquire(Class<T> type);
+
+    // Takes back an instance the decoded object no longer references.
+    void release(Object object);
+}
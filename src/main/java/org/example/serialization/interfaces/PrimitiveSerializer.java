@@ -0,0 +1,59 @@
+package org.example.serialization.interfaces;
+
+import java.nio.ByteBuffer;
+
+// Unboxed entry points of the built-in fixed width serializers, used for primitive model fields.
+// Each writes and reads exactly fixedSize() bytes at the buffer's position, in its own byte order whatever the buffer's is.
+public final class PrimitiveSerializer {
+
+    private PrimitiveSerializer() {
+    }
+
+    public interface OfInt extends Serializer<Integer> {
+        void writeInt(ByteBuffer buffer, int value);
+        int readInt(ByteBuffer buffer);
+    }
+
+    public interface OfLong extends Serializer<Long> {
+        void writeLong(ByteBuffer buffer, long value);
+        long readLong(ByteBuffer buffer);
+    }
+
+    public interface OfDouble extends Serializer<Double> {
+        void writeDouble(ByteBuffer buffer, double value);
+        double readDouble(ByteBuffer buffer);
+    }
+
+    public interface OfFloat extends Serializer<Float> {
+        void writeFloat(ByteBuffer buffer, float value);
+        float readFloat(ByteBuffer buffer);
+    }
+
+    public interface OfShort extends Serializer<Short> {
+        void writeShort(ByteBuffer buffer, short value);
+        short readShort(ByteBuffer buffer);
+    }
+
+    public interface OfBoolean extends Serializer<Boolean> {
+        void writeBoolean(ByteBuffer buffer, boolean value);
+        boolean readBoolean(ByteBuffer buffer);
+    }
+
+    // The interface a serializer needs for fields of the given primitive type, or null when that type is not supported.
+    public static Class<?> forType(Class<?> type) {
+        if (type == int.class) {
+            return OfInt.class;
+        } else if (type == long.class) {
+            return OfLong.class;
+        } else if (type == double.class) {
+            return OfDouble.class;
+        } else if (type == float.class) {
+            return OfFloat.class;
+        } else if (type == short.class) {
+            return OfShort.class;
+        } else if (type == boolean.class) {
+            return OfBoolean.class;
+        }
+        return null;
+    }
+}
@@ -2,6 +2,8 @@ package org.example.serialization.interfaces;
 
 import org.example.serialization.dataclass.SerializedFieldAttributes;
 
+import java.nio.ByteBuffer;
+
 public interface Serializer<T> {
     byte[] serialize(T value);
     default byte[] serialize(T value, SerializedFieldAttributes dataClass) {
@@ -10,5 +12,45 @@ public interface Serializer<T> {
     T deserialize(byte[] data, SerializedFieldAttributes dataClass);
     Class<T> getType();
     T getDefaultValue();
-}
 
+    // Number of bytes every value serializes to, or -1 when it depends on the value.
+    default int fixedSize() {
+        return -1;
+    }
+
+    // Exact length of serialize(value, dataClass), or -1 when it returns null. Lets encoders allocate the output once.
+    default int sizeOf(T value, SerializedFieldAttributes dataClass) {
+        int fixedSize = fixedSize();
+        if (fixedSize >= 0) {
+            return fixedSize;
+        }
+        byte[] bytes = serialize(value, dataClass);
+        return bytes == null ? -1 : bytes.length;
+    }
+
+    // Writes exactly sizeOf(value, dataClass) bytes at the buffer's position. Built-in serializers write in place;
+    // the default bridges to serialize, so serializers written against the byte[] contract keep working.
+    default void write(ByteBuffer buffer, T value, SerializedFieldAttributes dataClass) {
+        byte[] bytes = serialize(value, dataClass);
+        if (bytes != null) {
+            buffer.put(bytes);
+        }
+    }
+
+    // Reads a value from the next length bytes of the buffer and consumes them. The buffer's byte order is the caller's,
+    // so multi-byte values are read with an explicit order, as BinaryReader does.
+    default T read(ByteBuffer buffer, int length, SerializedFieldAttributes dataClass) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        if (dataClass != null && dataClass.length != length) {
+            dataClass = new SerializedFieldAttributes(dataClass.type, dataClass.identifier, length, dataClass.getIsRequired());
+        }
+        return deserialize(bytes, dataClass);
+    }
+
+    // Like read, but may refill and return reuse, a value this serializer read before, instead of allocating a new one.
+    // Serializers of immutable values ignore reuse.
+    default T readInto(ByteBuffer buffer, int length, SerializedFieldAttributes dataClass, T reuse) {
+        return read(buffer, length, dataClass);
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.serialization.managers;
+
+import org.example.serialization.codecs.CodecMode;
+import org.example.serialization.codecs.RuntimeCodecGenerator;
+import org.example.serialization.dataclass.ClassSchema;
+import org.example.serialization.interfaces.ObjectCodec;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+public class CodecManager {
+    public static final String MODE_PROPERTY = "boconverter.codec.mode";
+
+    private static final ClassValue<Optional<ObjectCodec<?>>> CODECS = new ClassValue<>() {
+        @Override
+        protected Optional<ObjectCodec<?>> computeValue(Class<?> type) {
+            // Building the schema first keeps annotation validation identical for generated and reflective codecs.
+            schemaManager.getSchema(type);
+            return Optional.ofNullable(findGeneratedCodec(type));
+        }
+    };
+
+    private static final ClassValue<RuntimeCodec> RUNTIME_CODECS = new ClassValue<>() {
+        @Override
+        protected RuntimeCodec computeValue(Class<?> type) {
+            ClassSchema schema = schemaManager.getSchema(type);
+            try {
+                return new RuntimeCodec(RuntimeCodecGenerator.generate(schema), null);
+            } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                return new RuntimeCodec(null, e);
+            }
+        }
+    };
+
+    private static final SchemaManager schemaManager = new SchemaManager();
+
+    private static volatile CodecMode mode = readMode(System.getProperty(MODE_PROPERTY));
+
+    public static CodecMode getMode() {
+        return mode;
+    }
+
+    public static void setMode(CodecMode codecMode) {
+        mode = Objects.requireNonNull(codecMode, "Codec mode cannot be null");
+    }
+
+    // Returns null when the class should be handled by ObjectSerializer's reflective path.
+    public <T> ObjectCodec<T> getCodec(Class<T> clazz) {
+        return getCodec(clazz, mode);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> ObjectCodec<T> getCodec(Class<T> clazz, CodecMode codecMode) {
+        return (ObjectCodec<T>) switch (codecMode) {
+            case REFLECTION -> null;
+            case GENERATED -> RUNTIME_CODECS.get(clazz).require(clazz);
+            case AUTO -> {
+                ObjectCodec<?> compiled = CODECS.get(clazz).orElse(null);
+                yield compiled != null ? compiled : RUNTIME_CODECS.get(clazz).codec();
+            }
+        };
+    }
+
+    // Generated codecs live next to their model, e.g. org.example.models.FoodCodec or Outer_InnerCodec.
+    public static String generatedCodecName(String binaryName) {
+        return binaryName.replace('$', '_') + "Codec";
+    }
+
+    private static CodecMode readMode(String value) {
+        if (value == null || value.isBlank()) {
+            return CodecMode.AUTO;
+        }
+        return CodecMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    private static ObjectCodec<?> findGeneratedCodec(Class<?> type) {
+        Class<?> codecClass;
+        try {
+            codecClass = Class.forName(generatedCodecName(type.getName()), true, type.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (!ObjectCodec.class.isAssignableFrom(codecClass)) {
+            return null;
+        }
+        try {
+            return (ObjectCodec<?>) codecClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create generated codec " + codecClass.getName(), e);
+        }
+    }
+
+    private record RuntimeCodec(ObjectCodec<?> codec, Throwable failure) {
+        ObjectCodec<?> require(Class<?> type) {
+            if (codec == null) {
+                throw new IllegalStateException("Cannot generate a codec for class: " + type.getName(), failure);
+            }
+            return codec;
+        }
+    }
+}
@@ -1,47 +1,109 @@
 package org.example.serialization.managers;
 
-import org.example.serialization.dataclass.SerializationContext;
+import org.example.serialization.dataclass.FieldAccessor;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 public class ReflectionManager {
-    public void setFieldValue(SerializationContext parameterBuilder, Field field, Object deserializedValue) throws IllegalAccessException {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    // Resolves the public getter/setter once, falling back to direct field access when there is none.
+    public FieldAccessor resolveAccessor(Field field) {
         field.setAccessible(true);
-        Method setterMethod;
+        MethodHandle getter = resolveGetter(field);
+        MethodHandle setter = resolveSetter(field);
+        if (!field.getType().isPrimitive()) {
+            return new FieldAccessor(getter, setter);
+        }
+        return new FieldAccessor(getter, setter, resolvePrimitiveGetter(field), resolvePrimitiveSetter(field));
+    }
+
+    // Same resolution as the boxed handles, but typed on the primitive. Direct access goes through the field's VarHandle.
+    private MethodHandle resolvePrimitiveGetter(Field field) {
+        MethodType type = MethodType.methodType(field.getType(), Object.class);
+        try {
+            Method getterMethod = getFieldGetterMethod(field);
+            getterMethod.setAccessible(true);
+            return lookup.unreflect(getterMethod).asType(type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return fieldVarHandle(field).toMethodHandle(VarHandle.AccessMode.GET).asType(type);
+        }
+    }
+
+    private MethodHandle resolvePrimitiveSetter(Field field) {
+        MethodType type = MethodType.methodType(void.class, Object.class, field.getType());
+        try {
+            Method setterMethod = getFieldSetterMethod(field);
+            setterMethod.setAccessible(true);
+            return lookup.unreflect(setterMethod).asType(type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            VarHandle handle = fieldVarHandle(field);
+            if (!handle.isAccessModeSupported(VarHandle.AccessMode.SET)) {
+                return null;
+            }
+            return handle.toMethodHandle(VarHandle.AccessMode.SET).asType(type);
+        }
+    }
+
+    private VarHandle fieldVarHandle(Field field) {
         try {
-            setterMethod = getFieldSetterMethod(field);
-            setterMethod.invoke(parameterBuilder.object(), deserializedValue);
-        } catch (NoSuchMethodException | InvocationTargetException e) {
-            field.set(parameterBuilder.object(), deserializedValue);
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup).unreflectVarHandle(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access field " + field.getName(), e);
         }
     }
 
-    public Object getFieldValue(Field field, Object object) {
+    private MethodHandle resolveGetter(Field field) {
         try {
             Method getterMethod = getFieldGetterMethod(field);
-            return getterMethod.invoke(object);
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-            return getFieldValueDirectly(field, object);
+            getterMethod.setAccessible(true);
+            return lookup.unreflect(getterMethod).asType(GETTER_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return getFieldGetterDirectly(field);
+        }
+    }
+
+    private MethodHandle resolveSetter(Field field) {
+        try {
+            Method setterMethod = getFieldSetterMethod(field);
+            setterMethod.setAccessible(true);
+            return lookup.unreflect(setterMethod).asType(SETTER_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return getFieldSetterDirectly(field);
+        }
+    }
+
+    private MethodHandle getFieldGetterDirectly(Field field) {
+        try {
+            return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot read field " + field.getName(), e);
         }
     }
 
-    private Object getFieldValueDirectly(Field field, Object object) {
+    private MethodHandle getFieldSetterDirectly(Field field) {
         try {
-            return field.get(object);
+            return lookup.unreflectSetter(field).asType(SETTER_TYPE);
         } catch (IllegalAccessException e) {
             return null;
         }
     }
 
-    private Method getFieldGetterMethod(Field field) throws NoSuchMethodException {
+    public Method getFieldGetterMethod(Field field) throws NoSuchMethodException {
         String fieldName = field.getName();
         String getterMethodName = "get" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
         return field.getDeclaringClass().getMethod(getterMethodName);
     }
 
-    private Method getFieldSetterMethod(Field field) throws NoSuchMethodException {
+    public Method getFieldSetterMethod(Field field) throws NoSuchMethodException {
         String fieldName = field.getName();
         String setterMethodName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
         return field.getDeclaringClass().getMethod(setterMethodName, field.getType());
@@ -0,0 +1,128 @@
+package org.example.serialization.managers;
+
+import org.example.serialization.dataclass.ClassSchema;
+import org.example.serialization.dataclass.FieldAccessor;
+import org.example.serialization.dataclass.FieldPlan;
+import org.example.serialization.dataclass.SerializedFieldAttributes;
+import org.example.serialization.exceptions.SerializerCreationException;
+import org.example.serialization.exceptions.SerializerMismatchException;
+import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.serializers.ArraySerializer;
+import org.example.serialization.serializers.ObjectSerializer;
+import org.example.serialization.serializers.PrimitiveArraySerializer;
+import org.example.serialization.serializers.PrimitiveListSerializer;
+import org.example.serialization.validators.SerializationCompatibilityValidator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SchemaManager {
+    // ClassValue keeps one schema per class without pinning the class loader of the model.
+    private static final ClassValue<ClassSchema> SCHEMAS = new ClassValue<>() {
+        @Override
+        protected ClassSchema computeValue(Class<?> type) {
+            try {
+                return buildSchema(type);
+            } catch (SerializerMismatchException e) {
+                throw new IllegalArgumentException("Failed to build schema for class: " + type.getName(), e);
+            }
+        }
+    };
+
+    private static final SerializedFieldManager serializedFieldManager = new SerializedFieldManager();
+    private static final ReflectionManager reflectionManager = new ReflectionManager();
+
+    public ClassSchema getSchema(Class<?> clazz) {
+        return SCHEMAS.get(clazz);
+    }
+
+    // Every field is validated here, once, so encoding and decoding never re-check compatibility.
+    private static ClassSchema buildSchema(Class<?> clazz) throws SerializerMismatchException {
+        List<FieldPlan> plans = new ArrayList<>();
+        List<String> problems = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (!field.isAnnotationPresent(SerializedField.class)) {
+                continue;
+            }
+            try {
+                FieldPlan plan = buildFieldPlan(field, field.getAnnotation(SerializedField.class));
+                SerializationCompatibilityValidator.checkFieldPlan(plan);
+                plans.add(plan);
+            } catch (SerializerCreationException | SerializerMismatchException | IllegalArgumentException e) {
+                problems.add(field.getName() + ": " + e.getMessage());
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new SerializerMismatchException(clazz.getName() + " has misconfigured fields:\n  " + String.join("\n  ", problems));
+        }
+        return new ClassSchema(clazz, plans);
+    }
+
+    private static FieldPlan buildFieldPlan(Field field, SerializedField annotation) throws SerializerCreationException {
+        SerializedFieldAttributes attributes = serializedFieldManager.getSerializedFieldAttributes(annotation);
+        FieldAccessor accessor = reflectionManager.resolveAccessor(field);
+
+        if (attributes.type == Object.class) {
+            Serializer<Object> objectSerializer = SerializerRegistry.get(ObjectSerializer.class);
+            return new FieldPlan(field, accessor, annotation, FieldPlan.Kind.NESTED, objectSerializer, null,
+                    field.getType(), attributes, attributes);
+        }
+
+        if (annotation.type() == ArraySerializer.class) {
+            Class<?> innerClass = findInnerClass(field);
+            if (annotation.innerType() == Object.class) {
+                // Object elements are written with their own length prefix, which ArraySerializer keys off type Object.
+                attributes.setType(Object.class);
+                SerializedFieldAttributes elementAttributes = new SerializedFieldAttributes(
+                        innerClass, annotation.identifier(), annotation.length(), annotation.required());
+                Serializer<Object> objectSerializer = SerializerRegistry.get(ObjectSerializer.class);
+                return new FieldPlan(field, accessor, annotation, FieldPlan.Kind.ARRAY, arraySerializer(objectSerializer),
+                        objectSerializer, innerClass, attributes, elementAttributes);
+            }
+            Serializer<Object> innerSerializer = SerializerRegistry.get(annotation.innerType());
+            if (PrimitiveListSerializer.isPrimitiveList(field.getType())) {
+                return new FieldPlan(field, accessor, annotation, FieldPlan.Kind.ARRAY, primitiveListSerializer(innerSerializer),
+                        innerSerializer, innerSerializer.getType(), attributes, attributes);
+            }
+            if (PrimitiveArraySerializer.isPrimitiveArray(field.getType())) {
+                return new FieldPlan(field, accessor, annotation, FieldPlan.Kind.ARRAY, primitiveArraySerializer(innerSerializer, field.getType()),
+                        innerSerializer, innerSerializer.getType(), attributes, attributes);
+            }
+            return new FieldPlan(field, accessor, annotation, FieldPlan.Kind.ARRAY, arraySerializer(innerSerializer),
+                    innerSerializer, innerClass, attributes, attributes);
+        }
+
+        Serializer<Object> serializer = SerializerRegistry.get(annotation.type());
+        FieldPlan.Kind kind = field.getType().isPrimitive() ? FieldPlan.Kind.PRIMITIVE : FieldPlan.Kind.SIMPLE;
+        return new FieldPlan(field, accessor, annotation, kind, serializer, null,
+                field.getType(), attributes, attributes);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Serializer<Object> arraySerializer(Serializer<Object> elementSerializer) {
+        return (Serializer) new ArraySerializer<>(elementSerializer);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Serializer<Object> primitiveListSerializer(Serializer<Object> elementSerializer) {
+        return (Serializer) new PrimitiveListSerializer<>(elementSerializer);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Serializer<Object> primitiveArraySerializer(Serializer<Object> elementSerializer, Class<?> arrayType) {
+        return (Serializer) new PrimitiveArraySerializer<>(elementSerializer, arrayType);
+    }
+
+    private static Class<?> findInnerClass(Field field) {
+        Type genericType = field.getGenericType();
+        if (genericType instanceof ParameterizedType parameterizedType
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> innerClass) {
+            return innerClass;
+        }
+        return null;
+    }
+}
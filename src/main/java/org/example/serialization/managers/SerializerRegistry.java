@@ -0,0 +1,72 @@
+package org.example.serialization.managers;
+
+import org.example.serialization.dataclass.ClassSchema;
+import org.example.serialization.dataclass.FieldPlan;
+import org.example.serialization.exceptions.SerializerCreationException;
+import org.example.serialization.interfaces.Serializer;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+
+// Serializers are expected to be stateless, so a single instance per serializer class is shared by every field.
+public class SerializerRegistry {
+    private static final ClassValue<Serializer<?>> SERIALIZERS = new ClassValue<>() {
+        @Override
+        protected Serializer<?> computeValue(Class<?> type) {
+            try {
+                return createSerializer(type);
+            } catch (SerializerCreationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    private static final SchemaManager schemaManager = new SchemaManager();
+
+    @SuppressWarnings("unchecked")
+    public static <T> Serializer<T> get(Class<?> serializerClass) throws SerializerCreationException {
+        if (serializerClass == null) {
+            throw new NullPointerException("Class cannot be null");
+        }
+        try {
+            return (Serializer<T>) SERIALIZERS.get(serializerClass);
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof SerializerCreationException creationException) {
+                throw creationException;
+            }
+            throw e;
+        }
+    }
+
+    public static Serializer<Object> forField(Field field) {
+        for (FieldPlan plan : schemaManager.getSchema(field.getDeclaringClass()).fields()) {
+            if (plan.field().equals(field)) {
+                return plan.serializer();
+            }
+        }
+        throw new IllegalArgumentException(field.getName() + " is not a serialized field");
+    }
+
+    // Used by generated codecs, so they share the schema's serializers instead of constructing their own.
+    @SuppressWarnings("unchecked")
+    public static <S extends Serializer<?>> S forField(Class<?> type, String fieldName) {
+        ClassSchema schema = schemaManager.getSchema(type);
+        int index = schema.indexOf(fieldName);
+        if (index < 0) {
+            throw new IllegalArgumentException(fieldName + " is not a serialized field");
+        }
+        return (S) schema.fields().get(index).serializer();
+    }
+
+    private static Serializer<?> createSerializer(Class<?> clazz) throws SerializerCreationException {
+        if (!Serializer.class.isAssignableFrom(clazz)) {
+            throw new SerializerCreationException(clazz.getName() + " is not a serializer");
+        }
+        try {
+            return (Serializer<?>) clazz.getDeclaredConstructor().newInstance();
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException |
+                 InvocationTargetException e) {
+            throw new SerializerCreationException("Failed to create serializer for class: " + clazz.getName(), e);
+        }
+    }
+}
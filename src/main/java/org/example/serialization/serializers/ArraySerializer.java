@@ -1,18 +1,48 @@
 package org.example.serialization.serializers;
 
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
 import org.example.serialization.interfaces.Serializer;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
-
-import static org.example.serialization.SerializationConstants.MAX_BUFFER_SIZE;
+import java.util.Objects;
 
 public class ArraySerializer<T> implements Serializer<ArrayList<T>> {
+    // Little endian primitive element types that are copied straight through BinaryWriter and BinaryReader.
+    // TIME elements are TimeSerializer's 4 byte values, converted on the way as ints.
+    private enum ElementView {
+        DOUBLE, FLOAT, LONG, INT, SHORT, TIME
+    }
+
     private final Serializer<T> elementSerializer;
+    private final ElementView elementView;
 
     public ArraySerializer(Serializer<T> elementSerializer) {
         this.elementSerializer = elementSerializer;
+        this.elementView = findElementView(elementSerializer);
+    }
+
+    // Exact classes only, a subclass may change the encoding.
+    private static ElementView findElementView(Serializer<?> serializer) {
+        Class<?> type = serializer.getClass();
+        if (type == DoubleSerializer.class || type == LocationDataSerializer.class) {
+            return ElementView.DOUBLE;
+        } else if (type == FloatSerializer.class) {
+            return ElementView.FLOAT;
+        } else if (type == LongSerializer.class) {
+            return ElementView.LONG;
+        } else if (type == IntegerSerializer.class) {
+            return ElementView.INT;
+        } else if (type == ShortSerializer.class) {
+            return ElementView.SHORT;
+        } else if (type == TimeSerializer.class) {
+            return ElementView.TIME;
+        }
+        return null;
     }
 
 
@@ -23,92 +53,246 @@ public class ArraySerializer<T> implements Serializer<ArrayList<T>> {
 
     @Override
     public byte[] serialize(ArrayList<T> array, SerializedFieldAttributes serializedFieldAttributes) {
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(array, serializedFieldAttributes));
+        write(buffer, array, serializedFieldAttributes);
+        return buffer.array();
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, ArrayList<T> array, SerializedFieldAttributes serializedFieldAttributes) {
         if (array == null) {
             array = getDefaultValue();
         }
-        ArrayList<T> arrayList = array;
-        ByteBuffer buffer = initializeBuffer();
-        serializeArrayElements(arrayList, serializedFieldAttributes, buffer);
+        int start = buffer.position();
+        BinaryWriter.putIntLE(buffer, 0); // Reserve the first 4 bytes for the size
+        if (elementView != null && serializedFieldAttributes.type != Object.class) {
+            writeView(buffer, array);
+        } else {
+            serializeArrayElements(array, serializedFieldAttributes, buffer);
+        }
 
-        int totalLength = buffer.position() - 4;
-        updatePrefix(buffer, serializedFieldAttributes, arrayList.size(), totalLength);
+        int totalLength = buffer.position() - start - 4;
+        updatePrefix(buffer, start, serializedFieldAttributes, array.size(), totalLength);
+    }
 
-        return finalizeBuffer(buffer);
+    @Override
+    public int sizeOf(ArrayList<T> array, SerializedFieldAttributes serializedFieldAttributes) {
+        if (array == null) {
+            array = getDefaultValue();
+        }
+        int elementSize = elementSerializer.fixedSize();
+        if (elementSize >= 0 && serializedFieldAttributes.type != Object.class) {
+            return 4 + array.size() * elementSize;
+        }
+        int size = 4;
+        for (T element : array) {
+            size += Math.max(0, elementSerializer.sizeOf(element, serializedFieldAttributes));
+            if (serializedFieldAttributes.type == Object.class) {
+                size += Integer.BYTES;
+            }
+        }
+        return size;
     }
 
-    private ByteBuffer initializeBuffer() {
-        ByteBuffer buffer = ByteBuffer.allocate(MAX_BUFFER_SIZE); // Adjust size as needed
-        buffer.position(4); // Reserve the first 4 bytes for the size
-        return buffer;
+    private void writeView(ByteBuffer buffer, ArrayList<T> array) {
+        if (buffer.remaining() < array.size() * elementSerializer.fixedSize()) {
+            throw new BufferOverflowException();
+        }
+        // Null elements are written as the serializer's default, zero.
+        switch (elementView) {
+            case DOUBLE -> {
+                for (T element : array) {
+                    BinaryWriter.putDoubleLE(buffer, element == null ? 0.0 : (Double) element);
+                }
+            }
+            case FLOAT -> {
+                for (T element : array) {
+                    BinaryWriter.putFloatLE(buffer, element == null ? 0f : (Float) element);
+                }
+            }
+            case LONG -> {
+                for (T element : array) {
+                    BinaryWriter.putLongLE(buffer, element == null ? 0L : (Long) element);
+                }
+            }
+            case INT -> {
+                for (T element : array) {
+                    BinaryWriter.putIntLE(buffer, element == null ? 0 : (Integer) element);
+                }
+            }
+            case SHORT -> {
+                for (T element : array) {
+                    BinaryWriter.putShortLE(buffer, element == null ? 0 : (Short) element);
+                }
+            }
+            case TIME -> {
+                for (T element : array) {
+                    BinaryWriter.putIntLE(buffer, element == null ? 0 : TimeSerializer.encodeTime((Long) element));
+                }
+            }
+        }
     }
 
     private void serializeArrayElements(ArrayList<T> arrayList, SerializedFieldAttributes serializedFieldAttributes, ByteBuffer buffer) {
         for (T element : arrayList) {
-            byte[] serializedElement = serializeElement(element, serializedFieldAttributes);
-            buffer.put(serializedElement);
+            serializeElement(element, serializedFieldAttributes, buffer);
         }
     }
 
-    private byte[] serializeElement(T element, SerializedFieldAttributes serializedFieldAttributes) {
+    private void serializeElement(T element, SerializedFieldAttributes serializedFieldAttributes, ByteBuffer buffer) {
         try {
-            byte[] serializedData = elementSerializer.serialize(element, serializedFieldAttributes);
-
             if (serializedFieldAttributes.type == Object.class) {
-                ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + serializedData.length);
-                IntegerSerializer.putInt(buffer, serializedData.length);
-                buffer.put(serializedData);
-                return buffer.array();
+                if (element == null) {
+                    throw new NullPointerException("Array element cannot be null");
+                }
+                // Object elements are written in place behind a length slot that is patched once they are done.
+                int lengthIndex = buffer.position();
+                BinaryWriter.putIntLE(buffer, 0);
+                elementSerializer.write(buffer, element, serializedFieldAttributes);
+                BinaryWriter.putIntLE(buffer, lengthIndex, buffer.position() - lengthIndex - Integer.BYTES);
+            } else {
+                elementSerializer.write(buffer, element, serializedFieldAttributes);
             }
-            return serializedData;
-
-        } catch (Exception e) {
+        } catch (BufferOverflowException e) {
+            // Callers writing into pooled or caller-supplied buffers grow or report on overflow.
+            throw e;
+        } catch (RuntimeException e) {
             throw new RuntimeException("Serialization failed", e);
         }
     }
 
-    private void updatePrefix(ByteBuffer buffer, SerializedFieldAttributes serializedFieldAttributes, int arraySize, int totalLength) {
+    private void updatePrefix(ByteBuffer buffer, int start, SerializedFieldAttributes serializedFieldAttributes, int arraySize, int totalLength) {
         if (serializedFieldAttributes.length != 0) {
-            IntegerSerializer.putInt(buffer, arraySize * serializedFieldAttributes.length, 0);
+            BinaryWriter.putIntLE(buffer, start, arraySize * serializedFieldAttributes.length);
         } else {
-            IntegerSerializer.putInt(buffer, totalLength, 0);
+            BinaryWriter.putIntLE(buffer, start, totalLength);
         }
     }
 
-    private byte[] finalizeBuffer(ByteBuffer buffer) {
-        byte[] result = new byte[buffer.position()];
-        buffer.rewind();
-        buffer.get(result);
-        return result;
+    @Override
+    public ArrayList<T> deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
+        return read(ByteBuffer.wrap(data), data.length, fieldAttributes);
     }
 
+    // Reads the next length bytes of the buffer in place; elements are decoded without being copied out.
+    @Override
+    public ArrayList<T> read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        return readInto(buffer, length, fieldAttributes, null);
+    }
 
+    // A reused list is cleared and refilled, keeping its capacity; the elements themselves are decoded anew.
     @Override
-    public ArrayList<T> deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
-        ByteBuffer buffer = ByteBuffer.wrap(data);
-        ArrayList<T> arrayList = new ArrayList<>();
-        SerializedFieldAttributes innerTypeAnnotation = new SerializedFieldAttributes(
+    public ArrayList<T> readInto(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes, ArrayList<T> reuse) {
+        int annotationLength = fieldAttributes.length;
+        if (annotationLength > 0) {
+            // Fixed width elements fill the array exactly; anything else means a corrupt length prefix.
+            if (length % annotationLength != 0) {
+                throw new IllegalArgumentException("Array length " + length + " is not a multiple of its "
+                        + annotationLength + " byte elements");
+            }
+            int count = length / annotationLength;
+            ArrayList<T> arrayList = target(reuse, count);
+            if (elementView != null && annotationLength == elementSerializer.fixedSize()) {
+                readView(buffer, count, arrayList);
+            } else {
+                readFixedLength(buffer, count, fieldAttributes, arrayList);
+            }
+            return arrayList;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        int end = buffer.position() + length;
+        ArrayList<T> arrayList = reuse == null ? new ArrayList<>() : target(reuse, 0);
+        SerializedFieldAttributes innerTypeAnnotation = copyAttributes(fieldAttributes);
+        // Elements are read within the array's window, so a bad element length cannot run into the next field.
+        int limit = buffer.limit();
+        buffer.limit(end);
+        try {
+            while (buffer.position() < end) {
+                int elementLength = getElementLength(fieldAttributes, buffer);
+                if (elementLength < 0 || elementLength > end - buffer.position()) {
+                    throw new BufferUnderflowException();
+                }
+                innerTypeAnnotation.setLength(elementLength);
+                arrayList.add(elementSerializer.read(buffer, elementLength, innerTypeAnnotation));
+            }
+            if (buffer.position() != end) {
+                throw new BufferUnderflowException();
+            }
+        } finally {
+            buffer.limit(limit);
+        }
+        return arrayList;
+    }
+
+    private static <T> ArrayList<T> target(ArrayList<T> reuse, int capacity) {
+        if (reuse == null) {
+            return new ArrayList<>(capacity);
+        }
+        reuse.clear();
+        reuse.ensureCapacity(capacity);
+        return reuse;
+    }
+
+    private void readFixedLength(ByteBuffer buffer, int count, SerializedFieldAttributes fieldAttributes, ArrayList<T> arrayList) {
+        SerializedFieldAttributes innerTypeAnnotation = copyAttributes(fieldAttributes);
+        for (int i = 0; i < count; i++) {
+            arrayList.add(elementSerializer.read(buffer, innerTypeAnnotation.length, innerTypeAnnotation));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readView(ByteBuffer buffer, int count, ArrayList<T> target) {
+        Objects.checkFromIndexSize(buffer.position(), count * elementSerializer.fixedSize(), buffer.limit());
+        ArrayList<Object> arrayList = (ArrayList<Object>) target;
+        switch (elementView) {
+            case DOUBLE -> {
+                for (int i = 0; i < count; i++) {
+                    arrayList.add(BinaryReader.getDoubleLE(buffer));
+                }
+            }
+            case FLOAT -> {
+                for (int i = 0; i < count; i++) {
+                    arrayList.add(BinaryReader.getFloatLE(buffer));
+                }
+            }
+            case LONG -> {
+                for (int i = 0; i < count; i++) {
+                    arrayList.add(BinaryReader.getLongLE(buffer));
+                }
+            }
+            case INT -> {
+                for (int i = 0; i < count; i++) {
+                    arrayList.add(BinaryReader.getIntLE(buffer));
+                }
+            }
+            case SHORT -> {
+                for (int i = 0; i < count; i++) {
+                    arrayList.add(BinaryReader.getShortLE(buffer));
+                }
+            }
+            case TIME -> {
+                for (int i = 0; i < count; i++) {
+                    arrayList.add(TimeSerializer.decodeTime(BinaryReader.getIntLE(buffer)));
+                }
+            }
+        }
+    }
+
+    private static SerializedFieldAttributes copyAttributes(SerializedFieldAttributes fieldAttributes) {
+        return new SerializedFieldAttributes(
                 fieldAttributes.getType(),
                 fieldAttributes.getIdentifier(),
                 fieldAttributes.getLength(),
                 fieldAttributes.getIsRequired()
         );
-        int annotationLength = innerTypeAnnotation.length;
-        while (buffer.hasRemaining()) {
-            int elementLength = annotationLength > 0 ? innerTypeAnnotation.length : getElementLength(fieldAttributes, buffer);
-            byte[] bytes = new byte[elementLength];
-            buffer.get(bytes);
-            innerTypeAnnotation.setLength(elementLength);
-            T element = elementSerializer.deserialize(bytes, innerTypeAnnotation);
-            arrayList.add(element);
-        }
-
-        return arrayList;
     }
 
     private int getElementLength(SerializedFieldAttributes fieldAttributes, ByteBuffer buffer) {
         int elementLength = fieldAttributes.length;
         if (elementLength == 0) {
-            elementLength = IntegerSerializer.getInt(buffer);
+            elementLength = BinaryReader.getIntLE(buffer);
         }
         return elementLength;
     }
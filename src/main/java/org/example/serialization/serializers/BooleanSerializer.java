@@ -1,20 +1,31 @@
 package org.example.serialization.serializers;
 
 import org.example.serialization.dataclass.SerializedFieldAttributes;
-import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.interfaces.PrimitiveSerializer;
 
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 
-public class BooleanSerializer implements Serializer<Boolean> {
+public class BooleanSerializer implements PrimitiveSerializer.OfBoolean {
 
     @Override
     public byte[] serialize(Boolean value) {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+        write(buffer, value, null);
+        return buffer.array();
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, Boolean value, SerializedFieldAttributes fieldAttributes) {
         if (value == null) {
             value = getDefaultValue();
         }
-        ByteBuffer buffer = ByteBuffer.allocate(1);
+        writeBoolean(buffer, value);
+    }
+
+    @Override
+    public void writeBoolean(ByteBuffer buffer, boolean value) {
         buffer.put((byte) (value ? 1 : 0));
-        return buffer.array();
     }
 
     @Override
@@ -22,9 +33,22 @@ public class BooleanSerializer implements Serializer<Boolean> {
         if (data == null) {
             return null;
         }
-        ByteBuffer buffer = ByteBuffer.wrap(data);
-        byte value = buffer.get();
-        return (value == 1);
+        return read(ByteBuffer.wrap(data), data.length, fieldAttributes);
+    }
+
+    @Override
+    public Boolean read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        if (length < 1) {
+            throw new BufferUnderflowException();
+        }
+        boolean value = readBoolean(buffer);
+        buffer.position(buffer.position() + length - 1);
+        return value;
+    }
+
+    @Override
+    public boolean readBoolean(ByteBuffer buffer) {
+        return buffer.get() == 1;
     }
 
     @Override
@@ -36,4 +60,9 @@ public class BooleanSerializer implements Serializer<Boolean> {
     public Boolean getDefaultValue() {
         return false;
     }
+
+    @Override
+    public int fixedSize() {
+        return 1;
+    }
 }
@@ -1,28 +1,52 @@
 package org.example.serialization.serializers;
 
 import org.example.serialization.dataclass.SerializedFieldAttributes;
-import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.interfaces.PrimitiveSerializer;
 
 import java.nio.ByteBuffer;
 
-public class ByteIntSerializer implements Serializer<Integer> {
+public class ByteIntSerializer implements PrimitiveSerializer.OfInt {
     @Override
     public byte[] serialize(Integer value) {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+        write(buffer, value, null);
+        return buffer.array();
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, Integer value, SerializedFieldAttributes fieldAttributes) {
         if (value == null) {
             value = getDefaultValue();
         }
-        ByteBuffer buffer = ByteBuffer.allocate(1);
+        writeInt(buffer, value);
+    }
+
+    @Override
+    public void writeInt(ByteBuffer buffer, int value) {
         int firstByte = value & 0xFF;
         buffer.put((byte) firstByte);
-        return buffer.array();
     }
 
     @Override
     public Integer deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
-        if (data == null || data.length != 1) {
+        if (data == null) {
             return null;
         }
-        return data[0] & 0xFF;
+        return read(ByteBuffer.wrap(data), data.length, fieldAttributes);
+    }
+
+    @Override
+    public Integer read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        if (length != 1) {
+            buffer.position(buffer.position() + length);
+            return null;
+        }
+        return readInt(buffer);
+    }
+
+    @Override
+    public int readInt(ByteBuffer buffer) {
+        return buffer.get() & 0xFF;
     }
 
     @Override
@@ -34,4 +58,9 @@ public class ByteIntSerializer implements Serializer<Integer> {
     public Integer getDefaultValue() {
         return 0;
     }
+
+    @Override
+    public int fixedSize() {
+        return 1;
+    }
 }
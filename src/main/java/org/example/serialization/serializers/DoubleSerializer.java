@@ -1,31 +1,59 @@
 package org.example.serialization.serializers;
 
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
-import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.interfaces.PrimitiveSerializer;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
-public class DoubleSerializer implements Serializer<Double> {
+public class DoubleSerializer implements PrimitiveSerializer.OfDouble {
     @Override
     public byte[] serialize(Double value) {
         if (value == null) {
             value = getDefaultValue();
         }
-        ByteBuffer buffer = ByteBuffer.allocate(Double.BYTES);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        buffer.putDouble(value);
-        return buffer.array();
+        byte[] data = new byte[Double.BYTES];
+        BinaryWriter.putDoubleLE(data, 0, value);
+        return data;
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, Double value, SerializedFieldAttributes fieldAttributes) {
+        if (value == null) {
+            value = getDefaultValue();
+        }
+        writeDouble(buffer, value);
+    }
+
+    @Override
+    public void writeDouble(ByteBuffer buffer, double value) {
+        BinaryWriter.putDoubleLE(buffer, value);
     }
 
     @Override
     public Double deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
-        if (data == null || data.length != Double.BYTES) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length != Double.BYTES) {
             return null;
         }
-        ByteBuffer buffer = ByteBuffer.wrap(data);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        return buffer.getDouble();
+        return BinaryReader.getDoubleLE(data, 0);
+    }
+
+    @Override
+    public Double read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        if (length != Double.BYTES) {
+            buffer.position(buffer.position() + length);
+            return null;
+        }
+        return readDouble(buffer);
+    }
+
+    @Override
+    public double readDouble(ByteBuffer buffer) {
+        return BinaryReader.getDoubleLE(buffer);
     }
 
     @Override
@@ -37,4 +65,9 @@ public class DoubleSerializer implements Serializer<Double> {
     public Double getDefaultValue() {
         return 0.0;
     }
+
+    @Override
+    public int fixedSize() {
+        return Double.BYTES;
+    }
 }
@@ -1,32 +1,60 @@
 package org.example.serialization.serializers;
 
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
-import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.interfaces.PrimitiveSerializer;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
-public class FloatSerializer implements Serializer<Float> {
+public class FloatSerializer implements PrimitiveSerializer.OfFloat {
 
     @Override
     public byte[] serialize(Float value) {
         if (value == null) {
             value = getDefaultValue();
         }
-        ByteBuffer buffer = ByteBuffer.allocate(Float.BYTES);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        buffer.putFloat(value);
-        return buffer.array();
+        byte[] data = new byte[Float.BYTES];
+        BinaryWriter.putFloatLE(data, 0, value);
+        return data;
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, Float value, SerializedFieldAttributes fieldAttributes) {
+        if (value == null) {
+            value = getDefaultValue();
+        }
+        writeFloat(buffer, value);
+    }
+
+    @Override
+    public void writeFloat(ByteBuffer buffer, float value) {
+        BinaryWriter.putFloatLE(buffer, value);
     }
 
     @Override
     public Float deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
-        if (data == null || data.length != Float.BYTES) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length != Float.BYTES) {
             return null;
         }
-        ByteBuffer buffer = ByteBuffer.wrap(data);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        return buffer.getFloat();
+        return BinaryReader.getFloatLE(data, 0);
+    }
+
+    @Override
+    public Float read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        if (length != Float.BYTES) {
+            buffer.position(buffer.position() + length);
+            return null;
+        }
+        return readFloat(buffer);
+    }
+
+    @Override
+    public float readFloat(ByteBuffer buffer) {
+        return BinaryReader.getFloatLE(buffer);
     }
 
     @Override
@@ -38,4 +66,9 @@ public class FloatSerializer implements Serializer<Float> {
     public Float getDefaultValue() {
         return 0f;
     }
+
+    @Override
+    public int fixedSize() {
+        return Float.BYTES;
+    }
 }
@@ -1,30 +1,60 @@
 package org.example.serialization.serializers;
 
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
-import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.interfaces.PrimitiveSerializer;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
-public class IntegerSerializer implements Serializer<Integer> {
+public class IntegerSerializer implements PrimitiveSerializer.OfInt {
 
     @Override
     public byte[] serialize(Integer value) {
         if (value == null) {
             value = getDefaultValue();
         }
-        ByteBuffer buffer = ByteBuffer.allocate(4);
-        putInt(buffer, value);
-        return buffer.array();
+        byte[] data = new byte[Integer.BYTES];
+        BinaryWriter.putIntLE(data, 0, value);
+        return data;
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, Integer value, SerializedFieldAttributes fieldAttributes) {
+        if (value == null) {
+            value = getDefaultValue();
+        }
+        BinaryWriter.putIntLE(buffer, value);
+    }
+
+    @Override
+    public void writeInt(ByteBuffer buffer, int value) {
+        BinaryWriter.putIntLE(buffer, value);
     }
 
     @Override
     public Integer deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
-        if (data == null || data.length != Integer.BYTES) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length != Integer.BYTES) {
             return null;
         }
-        ByteBuffer buffer = ByteBuffer.wrap(data);
-        return getInt(buffer);
+        return BinaryReader.getIntLE(data, 0);
+    }
+
+    @Override
+    public Integer read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        if (length != Integer.BYTES) {
+            buffer.position(buffer.position() + length);
+            return null;
+        }
+        return BinaryReader.getIntLE(buffer);
+    }
+
+    @Override
+    public int readInt(ByteBuffer buffer) {
+        return BinaryReader.getIntLE(buffer);
     }
 
     @Override
@@ -37,30 +67,25 @@ public class IntegerSerializer implements Serializer<Integer> {
         return 0;
     }
 
-    public static void putInt(ByteBuffer buffer, Integer value) {
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        buffer.putInt(value);
-        buffer.order(ByteOrder.BIG_ENDIAN);
+    @Override
+    public int fixedSize() {
+        return Integer.BYTES;
+    }
+
+    public static void putInt(ByteBuffer buffer, int value) {
+        BinaryWriter.putIntLE(buffer, value);
     }
 
-    public static void putInt(ByteBuffer buffer, Integer value, Integer index) {
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        buffer.putInt(index, value);
-        buffer.order(ByteOrder.BIG_ENDIAN);
+    public static void putInt(ByteBuffer buffer, int value, int index) {
+        BinaryWriter.putIntLE(buffer, index, value);
     }
 
-    public static Integer getInt(ByteBuffer buffer) {
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        Integer value = buffer.getInt();
-        buffer.order(ByteOrder.BIG_ENDIAN);
-        return value;
+    public static int getInt(ByteBuffer buffer) {
+        return BinaryReader.getIntLE(buffer);
     }
 
-    public static Integer getInt(ByteBuffer buffer, Integer index) {
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        Integer value = buffer.getInt(index);
-        buffer.order(ByteOrder.BIG_ENDIAN);
-        return value;
+    public static int getInt(ByteBuffer buffer, int index) {
+        return BinaryReader.getIntLE(buffer, index);
     }
 }
 
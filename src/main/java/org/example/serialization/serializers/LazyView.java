@@ -0,0 +1,227 @@
+package org.example.serialization.serializers;
+
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.codecs.CodecSupport;
+import org.example.serialization.dataclass.ClassSchema;
+import org.example.serialization.dataclass.FieldPlan;
+import org.example.serialization.interfaces.PrimitiveSerializer;
+import org.example.serialization.interfaces.Serializer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// A message decoded on demand, created by ObjectSerializer.lazy. One pass over the identifiers and lengths records where
+// each value starts; a field is decoded the first time it is read and kept from then on. Nested objects and lists of
+// them can be opened as views of their own, so reading one field deep inside a large message decodes only that field.
+// The view reads the bytes it was created over, which must not change while it is used, and is not thread safe.
+public final class LazyView<T> {
+    private static final Object NOT_DECODED = new Object();
+
+    private final ObjectSerializer objectSerializer;
+    private final ClassSchema schema;
+    private final ByteBuffer data;
+    // Indexed like schema.fields(); an offset of -1 means the field was not written.
+    private final int[] offsets;
+    private final int[] lengths;
+    private final Object[] values;
+    private Object[] opened;
+
+    LazyView(ObjectSerializer objectSerializer, ClassSchema schema, ByteBuffer data) {
+        this.objectSerializer = objectSerializer;
+        this.schema = schema;
+        this.data = data;
+        int count = schema.fields().size();
+        this.offsets = new int[count];
+        this.lengths = new int[count];
+        this.values = new Object[count];
+        Arrays.fill(offsets, -1);
+        Arrays.fill(values, NOT_DECODED);
+        scan();
+    }
+
+    private void scan() {
+        List<FieldPlan> fields = schema.fields();
+        while (data.hasRemaining()) {
+            byte typeId = data.get();
+            int index = schema.indexFor(typeId);
+            if (index < 0) {
+                throw CodecSupport.unknownIdentifier(schema.type(), typeId, data.position());
+            }
+            int length = ObjectSerializer.getLength(fields.get(index), data);
+            offsets[index] = data.position();
+            lengths[index] = length;
+            data.position(data.position() + length);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Class<T> type() {
+        return (Class<T>) schema.type();
+    }
+
+    public boolean has(String fieldName) {
+        return offsets[indexOf(fieldName)] >= 0;
+    }
+
+    // The value a full decode would set: null, or zero for a primitive field, when the field was not written.
+    @SuppressWarnings("unchecked")
+    public <V> V get(String fieldName) throws Exception {
+        return (V) get(indexOf(fieldName));
+    }
+
+    // getInt, getLong and getDouble read fields of the matching primitive serializers straight from the message,
+    // without boxing; other fields are decoded through get and converted.
+    public int getInt(String fieldName) throws Exception {
+        int index = indexOf(fieldName);
+        if (serializer(index) instanceof PrimitiveSerializer.OfInt serializer) {
+            return offsets[index] < 0 ? 0 : CodecSupport.readInt(at(index), serializer, lengths[index]);
+        }
+        Object value = get(index);
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    public long getLong(String fieldName) throws Exception {
+        int index = indexOf(fieldName);
+        if (serializer(index) instanceof PrimitiveSerializer.OfLong serializer) {
+            return offsets[index] < 0 ? 0L : CodecSupport.readLong(at(index), serializer, lengths[index]);
+        }
+        Object value = get(index);
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    public double getDouble(String fieldName) throws Exception {
+        int index = indexOf(fieldName);
+        if (serializer(index) instanceof PrimitiveSerializer.OfDouble serializer) {
+            return offsets[index] < 0 ? 0.0 : CodecSupport.readDouble(at(index), serializer, lengths[index]);
+        }
+        Object value = get(index);
+        return value == null ? 0.0 : ((Number) value).doubleValue();
+    }
+
+    // Opens a nested object field as a view, or returns null when it was not written.
+    @SuppressWarnings("unchecked")
+    public <V> LazyView<V> view(String fieldName) {
+        int index = indexOf(fieldName);
+        FieldPlan plan = schema.fields().get(index);
+        if (plan.kind() != FieldPlan.Kind.NESTED) {
+            throw notA("nested object", fieldName);
+        }
+        if (offsets[index] < 0) {
+            return null;
+        }
+        Object[] opened = opened();
+        if (opened[index] == null) {
+            opened[index] = new LazyView<>(objectSerializer, objectSerializer.schemaFor(plan.valueClass()),
+                    data.slice(offsets[index], lengths[index]));
+        }
+        return (LazyView<V>) opened[index];
+    }
+
+    // Opens each element of a list of nested objects as a view, or returns null when the list was not written.
+    @SuppressWarnings("unchecked")
+    public <V> List<LazyView<V>> elements(String fieldName) {
+        int index = indexOf(fieldName);
+        FieldPlan plan = schema.fields().get(index);
+        if (!plan.isObjectArray()) {
+            throw notA("list of nested objects", fieldName);
+        }
+        if (offsets[index] < 0) {
+            return null;
+        }
+        Object[] opened = opened();
+        if (opened[index] == null) {
+            ClassSchema elementSchema = objectSerializer.schemaFor(plan.valueClass());
+            int fixedLength = plan.elementAttributes().length;
+            int position = offsets[index];
+            int end = position + lengths[index];
+            List<LazyView<V>> elements = new ArrayList<>();
+            while (position < end) {
+                int elementLength = fixedLength;
+                if (fixedLength <= 0) {
+                    elementLength = BinaryReader.getIntLE(data, position);
+                    position += Integer.BYTES;
+                }
+                elements.add(new LazyView<>(objectSerializer, elementSchema, data.slice(position, elementLength)));
+                position += elementLength;
+            }
+            opened[index] = Collections.unmodifiableList(elements);
+        }
+        return (List<LazyView<V>>) opened[index];
+    }
+
+    // Decodes the whole message, as ObjectSerializer.deserialize would.
+    public T toObject() throws Exception {
+        return objectSerializer.deserialize(data.duplicate().clear(), type());
+    }
+
+    private Object get(int index) throws Exception {
+        Object value = values[index];
+        if (value == NOT_DECODED) {
+            value = decode(index);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    private Object decode(int index) throws Exception {
+        FieldPlan plan = schema.fields().get(index);
+        if (plan.kind() == FieldPlan.Kind.PRIMITIVE) {
+            return readPrimitive(plan, index);
+        }
+        if (offsets[index] < 0) {
+            return null;
+        }
+        return objectSerializer.getDeserializedValue(plan, at(index), lengths[index]);
+    }
+
+    private Object readPrimitive(FieldPlan plan, int index) {
+        Serializer<?> serializer = plan.serializer();
+        Class<?> type = plan.valueClass();
+        boolean written = offsets[index] >= 0;
+        int length = lengths[index];
+        if (type == int.class) {
+            return written ? CodecSupport.readInt(at(index), (PrimitiveSerializer.OfInt) serializer, length) : 0;
+        } else if (type == long.class) {
+            return written ? CodecSupport.readLong(at(index), (PrimitiveSerializer.OfLong) serializer, length) : 0L;
+        } else if (type == double.class) {
+            return written ? CodecSupport.readDouble(at(index), (PrimitiveSerializer.OfDouble) serializer, length) : 0.0;
+        } else if (type == float.class) {
+            return written ? CodecSupport.readFloat(at(index), (PrimitiveSerializer.OfFloat) serializer, length) : 0f;
+        } else if (type == short.class) {
+            return written ? CodecSupport.readShort(at(index), (PrimitiveSerializer.OfShort) serializer, length) : (short) 0;
+        } else if (type == boolean.class) {
+            return written && CodecSupport.readBoolean(at(index), (PrimitiveSerializer.OfBoolean) serializer, length);
+        }
+        throw new IllegalStateException("Unsupported primitive field type: " + type);
+    }
+
+    private Serializer<?> serializer(int index) {
+        return schema.fields().get(index).serializer();
+    }
+
+    private ByteBuffer at(int index) {
+        return data.position(offsets[index]);
+    }
+
+    private Object[] opened() {
+        if (opened == null) {
+            opened = new Object[offsets.length];
+        }
+        return opened;
+    }
+
+    private int indexOf(String fieldName) {
+        int index = schema.indexOf(fieldName);
+        if (index < 0) {
+            throw new IllegalArgumentException("No serialized field " + fieldName + " in " + schema.type().getName());
+        }
+        return index;
+    }
+
+    private IllegalArgumentException notA(String kind, String fieldName) {
+        return new IllegalArgumentException(schema.type().getName() + "." + fieldName + " is not a " + kind + " field");
+    }
+}
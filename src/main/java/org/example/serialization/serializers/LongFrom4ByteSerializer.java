@@ -1,32 +1,60 @@
 package org.example.serialization.serializers;
 
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
-import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.interfaces.PrimitiveSerializer;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
-public class LongFrom4ByteSerializer implements Serializer<Long> {
+public class LongFrom4ByteSerializer implements PrimitiveSerializer.OfLong {
 
     @Override
     public byte[] serialize(Long value) {
         if (value == null) {
             value = getDefaultValue();
         }
-        ByteBuffer buffer = ByteBuffer.allocate(4);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        buffer.putInt(value.intValue());
-        return buffer.array();
+        byte[] data = new byte[Integer.BYTES];
+        BinaryWriter.putIntLE(data, 0, value.intValue());
+        return data;
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, Long value, SerializedFieldAttributes fieldAttributes) {
+        if (value == null) {
+            value = getDefaultValue();
+        }
+        writeLong(buffer, value);
+    }
+
+    @Override
+    public void writeLong(ByteBuffer buffer, long value) {
+        BinaryWriter.putIntLE(buffer, (int) value);
     }
 
     @Override
     public Long deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
-        if (data == null || data.length != 4) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length != Integer.BYTES) {
             return null;
         }
-        ByteBuffer buffer = ByteBuffer.wrap(data);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        return (long) buffer.getInt();
+        return (long) BinaryReader.getIntLE(data, 0);
+    }
+
+    @Override
+    public Long read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        if (length != Integer.BYTES) {
+            buffer.position(buffer.position() + length);
+            return null;
+        }
+        return readLong(buffer);
+    }
+
+    @Override
+    public long readLong(ByteBuffer buffer) {
+        return BinaryReader.getIntLE(buffer);
     }
 
     @Override
@@ -38,4 +66,9 @@ public class LongFrom4ByteSerializer implements Serializer<Long> {
     public Long getDefaultValue() {
         return 0L;
     }
+
+    @Override
+    public int fixedSize() {
+        return Integer.BYTES;
+    }
 }
@@ -1,31 +1,59 @@
 package org.example.serialization.serializers;
 
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
-import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.interfaces.PrimitiveSerializer;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
-public class LongSerializer implements Serializer<Long> {
+public class LongSerializer implements PrimitiveSerializer.OfLong {
     @Override
     public byte[] serialize(Long value) {
         if (value == null) {
             value = getDefaultValue();
         }
-        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        buffer.putLong(value);
-        return buffer.array();
+        byte[] data = new byte[Long.BYTES];
+        BinaryWriter.putLongLE(data, 0, value);
+        return data;
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, Long value, SerializedFieldAttributes fieldAttributes) {
+        if (value == null) {
+            value = getDefaultValue();
+        }
+        writeLong(buffer, value);
+    }
+
+    @Override
+    public void writeLong(ByteBuffer buffer, long value) {
+        BinaryWriter.putLongLE(buffer, value);
     }
 
     @Override
     public Long deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
-        if (data == null || data.length != 8) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length != Long.BYTES) {
             return null;
         }
-        ByteBuffer buffer = ByteBuffer.wrap(data);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        return buffer.getLong();
+        return BinaryReader.getLongLE(data, 0);
+    }
+
+    @Override
+    public Long read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        if (length != Long.BYTES) {
+            buffer.position(buffer.position() + length);
+            return null;
+        }
+        return readLong(buffer);
+    }
+
+    @Override
+    public long readLong(ByteBuffer buffer) {
+        return BinaryReader.getLongLE(buffer);
     }
 
     @Override
@@ -37,4 +65,9 @@ public class LongSerializer implements Serializer<Long> {
     public Long getDefaultValue() {
         return 0L;
     }
+
+    @Override
+    public int fixedSize() {
+        return Long.BYTES;
+    }
 }
@@ -0,0 +1,75 @@
+package org.example.serialization.serializers;
+
+import jdk.incubator.foreign.MemoryAccess;
+import jdk.incubator.foreign.MemorySegment;
+import org.example.serialization.exceptions.BufferTooSmallException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+// Encodes into and decodes from off-heap memory segments of jdk.incubator.foreign, the JDK 17 form of the Foreign
+// Memory API. Messages are written through a ByteBuffer view of the segment, so nothing is staged on the heap.
+// Kept apart from ObjectSerializer so that class still loads when the incubator module is not present.
+public class MemorySegmentSerializer {
+    private static final ByteOrder LENGTH_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private final ObjectSerializer objectSerializer;
+
+    public MemorySegmentSerializer() {
+        this(new ObjectSerializer());
+    }
+
+    public MemorySegmentSerializer(ObjectSerializer objectSerializer) {
+        this.objectSerializer = objectSerializer;
+    }
+
+    // Writes the message at offset and returns its size. If it does not fit before the end of the segment,
+    // BufferTooSmallException reports the size needed; an offset outside the segment throws IndexOutOfBoundsException.
+    public int serializeTo(Object object, MemorySegment segment, long offset) throws BufferTooSmallException {
+        return objectSerializer.serializeTo(object, window(segment, offset, segment.byteSize() - offset));
+    }
+
+    public <T> T deserialize(MemorySegment segment, long offset, int length, Class<T> clazz) throws Exception {
+        return objectSerializer.deserialize(window(segment, offset, length), clazz);
+    }
+
+    // Writes the message after a little endian 4 byte length at offset, and returns the offset following it, so
+    // batches can be written back to back. The length is written last, so a record that does not fit leaves it as is.
+    public long writeRecord(Object object, MemorySegment segment, long offset) throws BufferTooSmallException {
+        long available = segment.byteSize() - Objects.checkIndex(offset, segment.byteSize() + 1);
+        if (available < Integer.BYTES) {
+            throw new BufferTooSmallException(Integer.BYTES + Math.max(objectSerializer.sizeOf(object), 0), (int) available);
+        }
+        int written;
+        try {
+            written = serializeTo(object, segment, offset + Integer.BYTES);
+        } catch (BufferTooSmallException e) {
+            throw new BufferTooSmallException(Integer.BYTES + e.getRequiredSize(), Integer.BYTES + e.getAvailableSize());
+        }
+        MemoryAccess.setIntAtOffset(segment, offset, LENGTH_ORDER, written);
+        return offset + Integer.BYTES + written;
+    }
+
+    // Size of the record at offset including its length prefix, i.e. the distance to the next record.
+    public long recordSize(MemorySegment segment, long offset) {
+        return Integer.BYTES + recordLength(segment, offset);
+    }
+
+    public <T> T readRecord(MemorySegment segment, long offset, Class<T> clazz) throws Exception {
+        return deserialize(segment, offset + Integer.BYTES, recordLength(segment, offset), clazz);
+    }
+
+    private static int recordLength(MemorySegment segment, long offset) {
+        int length = MemoryAccess.getIntAtOffset(segment, offset, LENGTH_ORDER);
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative record length " + length + " at offset " + offset);
+        }
+        return length;
+    }
+
+    // A ByteBuffer view is limited to Integer.MAX_VALUE bytes, which bounds one message but not the segment.
+    private static ByteBuffer window(MemorySegment segment, long offset, long length) {
+        return segment.asSlice(offset, Math.min(length, Integer.MAX_VALUE)).asByteBuffer();
+    }
+}
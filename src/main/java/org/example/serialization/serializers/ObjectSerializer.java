@@ -1,144 +1,223 @@
 package org.example.serialization.serializers;
 
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BufferPool;
+import org.example.serialization.codecs.CodecSupport;
+import org.example.serialization.dataclass.ClassSchema;
+import org.example.serialization.dataclass.FieldAccessor;
+import org.example.serialization.dataclass.FieldPlan;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
-import org.example.serialization.dataclass.SerializationContext;
+import org.example.serialization.exceptions.BufferTooSmallException;
 import org.example.serialization.exceptions.SerializerCreationException;
-import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.interfaces.ObjectCodec;
+import org.example.serialization.interfaces.ObjectPool;
+import org.example.serialization.interfaces.PrimitiveSerializer;
 import org.example.serialization.interfaces.Serializer;
-import org.example.serialization.managers.SerializedFieldManager;
-import org.example.serialization.managers.ReflectionManager;
-import org.example.serialization.validators.SerializationCompatibilityValidator;
+import org.example.serialization.managers.CodecManager;
+import org.example.serialization.managers.SchemaManager;
+import org.example.serialization.managers.SerializerRegistry;
 
-import java.lang.reflect.*;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
-import java.util.*;
-
-import static org.example.serialization.SerializationConstants.MAX_BUFFER_SIZE;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ObjectSerializer implements Serializer<Object> {
 
-    private final ReflectionManager reflectionManager = new ReflectionManager();
-    private final SerializedFieldManager serializedFieldManager = new SerializedFieldManager();
+    private final SchemaManager schemaManager = new SchemaManager();
+    private final CodecManager codecManager = new CodecManager();
+    private final BufferPool bufferPool;
+    private final ObjectPool objectPool;
 
     public ObjectSerializer() {
+        this(BufferPool.getDefault());
+    }
+
+    public ObjectSerializer(BufferPool bufferPool) {
+        this(bufferPool, ObjectPool.NONE);
+    }
+
+    public ObjectSerializer(BufferPool bufferPool, ObjectPool objectPool) {
+        this.bufferPool = bufferPool;
+        this.objectPool = objectPool;
     }
 
     public byte[] serialize(Object object) {
         if (object == null) {
             return null;
         }
-        ByteBuffer buffer = ByteBuffer.allocate(MAX_BUFFER_SIZE);
-
-        for (Field field : object.getClass().getDeclaredFields()) {
-            if (!field.isAnnotationPresent(SerializedField.class)) {
-                continue;
-            }
-            field.setAccessible(true);
-            SerializedField annotation = field.getAnnotation(SerializedField.class);
-            try {
-                SerializationContext context = new SerializationContext.Builder()
-                        .serializedField(annotation)
-                        .buffer(buffer)
-                        .field(field)
-                        .object(object)
-                        .build();
-                serializeField(context);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+        int fixedSize = schemaManager.getSchema(object.getClass()).fixedSize();
+        if (fixedSize >= 0) {
+            return serializeExact(object, fixedSize);
         }
-        byte[] result = new byte[buffer.position()];
-        buffer.rewind();
-        buffer.get(result);
-        return result;
+        return serializePooled(object);
     }
 
-    private static <T> Serializer<T> getSerializer(Class<T> clazz) throws SerializerCreationException {
-        if (clazz == null) {
-            throw new NullPointerException("Class cannot be null");
+    private byte[] serializeExact(Object object, int size) {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        try {
+            writeObject(object, buffer);
+        } catch (BufferOverflowException e) {
+            throw sizeMismatch(object, e);
+        }
+        if (buffer.hasRemaining()) {
+            throw sizeMismatch(object, null);
         }
+        return buffer.array();
+    }
 
+    // Encodes into pooled scratch space and copies out the used prefix. An overflow is retried once in a
+    // buffer sized by sizeOf, which the pool keeps for later messages of that size.
+    private byte[] serializePooled(Object object) {
+        ByteBuffer buffer = bufferPool.acquire();
         try {
-            return (Serializer<T>) clazz.getDeclaredConstructor().newInstance();
-        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException |
-                 InvocationTargetException e) {
-            throw new SerializerCreationException("Failed to create serializer for class: " + clazz.getName(), e);
+            while (true) {
+                try {
+                    writeObject(object, buffer);
+                    break;
+                } catch (BufferOverflowException e) {
+                    buffer = bufferPool.grow(buffer, sizeOf(object));
+                }
+            }
+            byte[] result = new byte[buffer.position()];
+            buffer.get(0, result);
+            return result;
+        } finally {
+            bufferPool.release(buffer);
         }
     }
 
-    private void serializeField(SerializationContext context) throws Exception {
-
-        Object fieldValue = reflectionManager.getFieldValue(context.field(), context.object());
-        if (fieldValue == null && !context.serializedField().required()) {
-            return;
+    // Writes the message at the buffer's position and advances it, returning the number of bytes written.
+    // Heap and direct buffers both work; the buffer's byte order is neither consulted nor changed.
+    public int serializeTo(Object object, ByteBuffer buffer) throws BufferTooSmallException {
+        if (object == null) {
+            return 0;
         }
+        int fixedSize = schemaManager.getSchema(object.getClass()).fixedSize();
+        if (fixedSize > buffer.remaining()) {
+            throw new BufferTooSmallException(fixedSize, buffer.remaining());
+        }
+        // A duplicate keeps the caller's position untouched on overflow.
+        ByteBuffer target = buffer.duplicate();
+        try {
+            writeObject(object, target);
+        } catch (BufferOverflowException e) {
+            throw new BufferTooSmallException(sizeOf(object), buffer.remaining());
+        }
+        int written = target.position() - buffer.position();
+        buffer.position(target.position());
+        return written;
+    }
 
-        SerializedFieldAttributes serializedFieldAttributes = serializedFieldManager.getSerializedFieldAttributes(context.serializedField());
-        SerializationCompatibilityValidator.checkSupportedSerializer(serializedFieldAttributes.type);
-
-        SerializationContext serializationContext = new SerializationContext.Builder()
-                .from(context)
-                .annotationDataClass(serializedFieldAttributes)
-                .build();
+    public int serializeTo(Object object, byte[] data, int offset) throws BufferTooSmallException {
+        return serializeTo(object, ByteBuffer.wrap(data, offset, data.length - offset));
+    }
 
-        if (serializedFieldAttributes.type == Object.class) {
-            serializeNestedField(serializationContext);
-        } else if (context.serializedField().type() == ArraySerializer.class) {
-            serializeArrayField(serializationContext);
+    // Writes the fields of object at the buffer's position; the buffer needs sizeOf(object) bytes remaining.
+    public void writeObject(Object object, ByteBuffer buffer) {
+        ObjectCodec<Object> codec = getCodec(object.getClass());
+        if (codec != null) {
+            codec.serialize(object, buffer, this);
         } else {
-            serializeSimpleField(serializationContext);
+            serializeFields(object, buffer);
         }
     }
 
-    private void serializeNestedField(SerializationContext context) {
-        Object fieldValue = reflectionManager.getFieldValue(context.field(), context.object());
-        byte[] nestedSerializedData = serialize(fieldValue);
-        if (nestedSerializedData == null) {
-            return;
+    public int sizeOf(Object object) {
+        if (object == null) {
+            return -1;
         }
-        context.buffer().put(context.serializedField().identifier());
-        IntegerSerializer.putInt(context.buffer(), nestedSerializedData.length);
-        context.buffer().put(nestedSerializedData);
+        ObjectCodec<Object> codec = getCodec(object.getClass());
+        if (codec != null) {
+            return codec.sizeOf(object, this);
+        }
+        return sizeOfFields(object);
     }
 
-    private void serializeArrayField(SerializationContext context) throws Exception {
-        Serializer<Object> innerSerializer = getSerializerForArrayField(context.serializedField(), context.field(), context.serializedFieldAttributes());
-        ArraySerializer<Object> arraySerializer = new ArraySerializer<>(innerSerializer);
+    @Override
+    public int sizeOf(Object object, SerializedFieldAttributes serializedFieldAttributes) {
+        return sizeOf(object);
+    }
 
-        Object fieldValue = reflectionManager.getFieldValue(context.field(), context.object());
-        @SuppressWarnings("unchecked")
-        byte[] serializedData = arraySerializer.serialize((ArrayList<Object>) fieldValue, context.serializedFieldAttributes());
-        if (serializedData != null) {
-            context.buffer().put(context.serializedField().identifier());
-            context.buffer().put(serializedData);
+    @Override
+    public void write(ByteBuffer buffer, Object object, SerializedFieldAttributes serializedFieldAttributes) {
+        if (object != null) {
+            writeObject(object, buffer);
         }
     }
 
-    private Serializer<Object> getSerializerForArrayField(SerializedField annotation, Field field, SerializedFieldAttributes serializedFieldAttributes) throws Exception {
-        if (annotation.innerType() == Object.class) {
-            serializedFieldAttributes.setType(Object.class);
-            return new ObjectSerializer();
-        }
+    @SuppressWarnings("unchecked")
+    private ObjectCodec<Object> getCodec(Class<?> clazz) {
+        return (ObjectCodec<Object>) codecManager.getCodec(clazz);
+    }
+
+    private static IllegalStateException sizeMismatch(Object object, Exception cause) {
+        return new IllegalStateException("Serialized size of " + object.getClass().getName()
+                + " does not match its computed size, check the sizeOf/fixedSize of its serializers", cause);
+    }
 
-        @SuppressWarnings("unchecked")
-        Serializer<Object> innerSerializer = (Serializer<Object>) getSerializer(annotation.innerType());
-        Class<?> innerClass = serializedFieldManager.getInnerClass(field);
-        SerializationCompatibilityValidator.checkSerializerFieldCompatibility(innerSerializer.getClass(), innerClass);
-        return innerSerializer;
+    private static <T> Serializer<T> getSerializer(Class<T> clazz) throws SerializerCreationException {
+        return SerializerRegistry.get(clazz);
     }
 
-    private void serializeSimpleField(SerializationContext context) throws Exception {
-        @SuppressWarnings("unchecked")
-        Serializer<Object> serializer = (Serializer<Object>) getSerializer(context.serializedField().type());
+    private void serializeFields(Object object, ByteBuffer buffer) {
+        ClassSchema schema = schemaManager.getSchema(object.getClass());
+        for (FieldPlan plan : schema.fields()) {
+            serializeField(plan, object, buffer);
+        }
+    }
 
-        SerializationCompatibilityValidator.checkSerializerFieldCompatibility(serializer.getClass(), context.field().getType());
-        Object fieldValue = reflectionManager.getFieldValue(context.field(), context.object());
-        byte[] serializedData = serializer.serialize(fieldValue, context.serializedFieldAttributes());
-        if (serializedData == null) {
+    private int sizeOfFields(Object object) {
+        ClassSchema schema = schemaManager.getSchema(object.getClass());
+        int size = 0;
+        for (FieldPlan plan : schema.fields()) {
+            if (plan.kind() == FieldPlan.Kind.PRIMITIVE) {
+                size += CodecSupport.sizeOfPrimitive(plan.serializer());
+                continue;
+            }
+            Object fieldValue = plan.get(object);
+            if (plan.kind() == FieldPlan.Kind.NESTED) {
+                size += CodecSupport.sizeOfNested(fieldValue, this);
+            } else {
+                size += CodecSupport.sizeOfValue(plan.serializer(), fieldValue, plan.attributes());
+            }
+        }
+        return size;
+    }
+
+    private void serializeField(FieldPlan plan, Object object, ByteBuffer buffer) {
+        if (plan.kind() == FieldPlan.Kind.PRIMITIVE) {
+            serializePrimitiveField(plan, object, buffer);
             return;
         }
-        context.buffer().put(context.serializedField().identifier());
-        context.buffer().put(serializedData);
+        Object fieldValue = plan.get(object);
+        if (plan.kind() == FieldPlan.Kind.NESTED) {
+            CodecSupport.writeNested(buffer, fieldValue, plan.attributes(), this);
+        } else {
+            CodecSupport.writeValue(buffer, plan.serializer(), fieldValue, plan.attributes());
+        }
+    }
+
+    private void serializePrimitiveField(FieldPlan plan, Object object, ByteBuffer buffer) {
+        Serializer<?> serializer = plan.serializer();
+        FieldAccessor accessor = plan.accessor();
+        SerializedFieldAttributes attributes = plan.attributes();
+        Class<?> type = plan.valueClass();
+        if (type == int.class) {
+            CodecSupport.writeInt(buffer, (PrimitiveSerializer.OfInt) serializer, accessor.getInt(object), attributes);
+        } else if (type == long.class) {
+            CodecSupport.writeLong(buffer, (PrimitiveSerializer.OfLong) serializer, accessor.getLong(object), attributes);
+        } else if (type == double.class) {
+            CodecSupport.writeDouble(buffer, (PrimitiveSerializer.OfDouble) serializer, accessor.getDouble(object), attributes);
+        } else if (type == float.class) {
+            CodecSupport.writeFloat(buffer, (PrimitiveSerializer.OfFloat) serializer, accessor.getFloat(object), attributes);
+        } else if (type == short.class) {
+            CodecSupport.writeShort(buffer, (PrimitiveSerializer.OfShort) serializer, accessor.getShort(object), attributes);
+        } else if (type == boolean.class) {
+            CodecSupport.writeBoolean(buffer, (PrimitiveSerializer.OfBoolean) serializer, accessor.getBoolean(object), attributes);
+        } else {
+            throw new IllegalStateException("Unsupported primitive field type: " + type);
+        }
     }
 
     public Object deserialize(byte[] bytes, SerializedFieldAttributes serializedFieldAttributes) {
@@ -149,6 +228,15 @@ public class ObjectSerializer implements Serializer<Object> {
         }
     }
 
+    @Override
+    public Object read(ByteBuffer buffer, int length, SerializedFieldAttributes serializedFieldAttributes) {
+        try {
+            return readObject(buffer, length, serializedFieldAttributes.type);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Override
     public Class<Object> getType() {
         return Object.class;
@@ -160,105 +248,271 @@ public class ObjectSerializer implements Serializer<Object> {
     }
 
     public Object deserialize(byte[] data, Class<?> clazz) throws Exception {
-        ByteBuffer buffer = ByteBuffer.wrap(data);
+        return readFields(ByteBuffer.wrap(data), clazz);
+    }
+
+    // Decodes the bytes between the buffer's position and limit without copying them, leaving the position
+    // at the limit. Heap and direct buffers both work; the buffer's byte order is neither consulted nor changed.
+    public <T> T deserialize(ByteBuffer buffer, Class<T> clazz) throws Exception {
+        return clazz.cast(readFields(buffer, clazz));
+    }
+
+    // Decodes the next length bytes as one object by narrowing the buffer's limit, so nested objects
+    // are read in place rather than copied out of their parent.
+    public Object readObject(ByteBuffer buffer, int length, Class<?> clazz) throws Exception {
+        int limit = buffer.limit();
+        buffer.limit(buffer.position() + length);
+        try {
+            return readFields(buffer, clazz);
+        } finally {
+            buffer.limit(limit);
+        }
+    }
+
+    private Object readFields(ByteBuffer buffer, Class<?> clazz) throws Exception {
+        ObjectCodec<?> codec = codecManager.getCodec(clazz);
+        if (codec != null) {
+            return codec.deserialize(buffer, this);
+        }
+        return deserializeFields(buffer, clazz);
+    }
+
+    private Object deserializeFields(ByteBuffer buffer, Class<?> clazz) throws Exception {
+        ClassSchema schema = schemaManager.getSchema(clazz);
         Object object = clazz.getDeclaredConstructor().newInstance();
 
         while (buffer.hasRemaining()) {
             byte typeId = buffer.get();
-            SerializedField serializedField = serializedFieldManager.getSerializedFieldByIdentifier(typeId, clazz);
-            if (serializedField == null) {
-                throw new NullPointerException("Class: " + clazz.getName() + " No serializer found for typeId: " + typeId + " position " + buffer.position());
+            FieldPlan plan = schema.fieldFor(typeId);
+            if (plan == null) {
+                throw CodecSupport.unknownIdentifier(clazz, typeId, buffer.position());
             }
-            SerializationContext serializationContext = new SerializationContext.Builder()
-                    .serializedField(serializedField)
-                    .buffer(buffer)
-                    .clazz(clazz)
-                    .object(object)
-                    .typeId(typeId)
-                    .build();
-            addFieldValue(serializationContext);
+            addFieldValue(plan, object, buffer);
         }
         return object;
     }
 
-    private void addFieldValue(SerializationContext context) throws Exception {
-        int length = getLength(context.serializedField(), context.buffer());
-        SerializedFieldAttributes serializedFieldAttributes = serializedFieldManager.getSerializedFieldAttributes(context.serializedField());
-        SerializationCompatibilityValidator.checkSupportedSerializer(serializedFieldAttributes.type);
-        Field field = serializedFieldManager.findFieldByIdentifier(context.clazz(), serializedFieldAttributes.identifier);
-        Object deserializedValue;
-
-        if (field == null) {
-            throw new UnsupportedOperationException(context.clazz().getName() + " has no field for typeId: " + context.typeId() + " position " + context.buffer().position());
+    private void addFieldValue(FieldPlan plan, Object object, ByteBuffer buffer) throws Exception {
+        int length = getLength(plan, buffer);
+        if (plan.kind() == FieldPlan.Kind.PRIMITIVE) {
+            addPrimitiveFieldValue(plan, object, buffer, length);
+            return;
         }
 
-        SerializationContext serializationContext = new SerializationContext.Builder()
-                .from(context)
-                .field(field)
-                .annotationDataClass(serializedFieldAttributes)
-                .length(length)
-                .build();
-        deserializedValue = getDeserializedValue(serializationContext);
-        reflectionManager.setFieldValue(context, field, deserializedValue);
+        Object deserializedValue = getDeserializedValue(plan, buffer, length);
+        plan.set(object, deserializedValue);
     }
 
-    private Object getDeserializedValue(SerializationContext context) throws Exception {
-        Object deserializedValue;
-        if (context.serializedFieldAttributes().type == Object.class) {
-            byte[] nestedData = getBytes(context.buffer(), context.length());
-            deserializedValue = deserialize(nestedData, context.field().getType());
+    private void addPrimitiveFieldValue(FieldPlan plan, Object object, ByteBuffer buffer, int length) {
+        Serializer<?> serializer = plan.serializer();
+        FieldAccessor accessor = plan.accessor();
+        Class<?> type = plan.valueClass();
+        if (type == int.class) {
+            accessor.setInt(object, CodecSupport.readInt(buffer, (PrimitiveSerializer.OfInt) serializer, length));
+        } else if (type == long.class) {
+            accessor.setLong(object, CodecSupport.readLong(buffer, (PrimitiveSerializer.OfLong) serializer, length));
+        } else if (type == double.class) {
+            accessor.setDouble(object, CodecSupport.readDouble(buffer, (PrimitiveSerializer.OfDouble) serializer, length));
+        } else if (type == float.class) {
+            accessor.setFloat(object, CodecSupport.readFloat(buffer, (PrimitiveSerializer.OfFloat) serializer, length));
+        } else if (type == short.class) {
+            accessor.setShort(object, CodecSupport.readShort(buffer, (PrimitiveSerializer.OfShort) serializer, length));
+        } else if (type == boolean.class) {
+            accessor.setBoolean(object, CodecSupport.readBoolean(buffer, (PrimitiveSerializer.OfBoolean) serializer, length));
         } else {
-            SerializationCompatibilityValidator.checkSerializerFieldCompatibility(context.serializedFieldAttributes().type, context.field().getType());
-            deserializedValue = getObject(context);
+            throw new IllegalStateException("Unsupported primitive field type: " + type);
+        }
+    }
+
+    Object getDeserializedValue(FieldPlan plan, ByteBuffer buffer, int length) throws Exception {
+        if (plan.kind() == FieldPlan.Kind.NESTED) {
+            return CodecSupport.readNested(buffer, length, plan.valueClass(), this);
+        }
+        if (plan.kind() == FieldPlan.Kind.ARRAY) {
+            return CodecSupport.readArray(buffer, plan.serializer(), length, plan.elementAttributes());
+        }
+        return CodecSupport.readValue(buffer, plan.serializer(), length, plan.attributes());
+    }
+
+    public <T> LazyView<T> lazy(byte[] data, Class<T> clazz) {
+        return lazy(ByteBuffer.wrap(data), clazz);
+    }
+
+    // Locates the fields between the buffer's position and limit without decoding them, and moves the position to the
+    // limit. The view decodes from the buffer's bytes when fields are read, so they must stay unchanged until then.
+    public <T> LazyView<T> lazy(ByteBuffer buffer, Class<T> clazz) {
+        ByteBuffer data = buffer.slice();
+        buffer.position(buffer.limit());
+        return new LazyView<>(this, schemaManager.getSchema(clazz), data);
+    }
+
+    ClassSchema schemaFor(Class<?> clazz) {
+        return schemaManager.getSchema(clazz);
+    }
+
+    public <T> T deserializeInto(byte[] data, T instance) throws Exception {
+        return deserializeInto(ByteBuffer.wrap(data), instance);
+    }
+
+    // Decodes the bytes between the buffer's position and limit into instance and returns it. Nested objects, lists
+    // and arrays instance already holds are decoded into in place; nested objects it no longer needs go to the object
+    // pool, and new ones are taken from it. Fields missing from the message were null when it was written and are set
+    // to null. Always decodes through the class schema, whatever the codec mode.
+    public <T> T deserializeInto(ByteBuffer buffer, T instance) throws Exception {
+        readInto(buffer, instance);
+        return instance;
+    }
+
+    private void readInto(ByteBuffer buffer, Object object) throws Exception {
+        ClassSchema schema = schemaManager.getSchema(object.getClass());
+        List<FieldPlan> fields = schema.fields();
+        // Fields are written in schema order, so a field passed over was not written. Messages in another order are
+        // still read, though a field arriving after a later one is not cleared beforehand.
+        int next = 0;
+        while (buffer.hasRemaining()) {
+            byte typeId = buffer.get();
+            FieldPlan plan = schema.fieldFor(typeId);
+            if (plan == null) {
+                throw CodecSupport.unknownIdentifier(object.getClass(), typeId, buffer.position());
+            }
+            int index = indexOf(fields, plan, next);
+            if (index >= 0) {
+                for (; next < index; next++) {
+                    clearField(fields.get(next), object);
+                }
+                next = index + 1;
+            }
+            readFieldInto(plan, object, buffer);
+        }
+        for (; next < fields.size(); next++) {
+            clearField(fields.get(next), object);
+        }
+    }
+
+    private static int indexOf(List<FieldPlan> fields, FieldPlan plan, int from) {
+        for (int i = from; i < fields.size(); i++) {
+            if (fields.get(i) == plan) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void readFieldInto(FieldPlan plan, Object object, ByteBuffer buffer) throws Exception {
+        int length = getLength(plan, buffer);
+        switch (plan.kind()) {
+            case PRIMITIVE -> addPrimitiveFieldValue(plan, object, buffer, length);
+            case NESTED -> plan.set(object, readNestedInto(buffer, length, plan.valueClass(), plan.get(object)));
+            case ARRAY -> plan.set(object, plan.isObjectArray()
+                    ? readElementsInto(plan, buffer, length, plan.get(object))
+                    : readArrayInto(plan, buffer, length, plan.get(object)));
+            default -> plan.set(object, readValueInto(plan, buffer, length, plan.get(object)));
         }
-        return deserializedValue;
     }
 
-    private Object getObject(SerializationContext context) {
+    private Object readNestedInto(ByteBuffer buffer, int length, Class<?> type, Object existing) throws Exception {
+        Object target = existing;
+        if (target == null || target.getClass() != type) {
+            objectPool.release(existing);
+            target = newInstance(type);
+        }
+        int limit = buffer.limit();
+        buffer.limit(buffer.position() + length);
         try {
-            if (context.serializedField().type() == ArraySerializer.class) {
-                return deserializeArrayField(context);
+            readInto(buffer, target);
+        } finally {
+            buffer.limit(limit);
+        }
+        return target;
+    }
+
+    // Elements are decoded into the ones at the same index, and those left over go back to the pool.
+    @SuppressWarnings("unchecked")
+    private ArrayList<Object> readElementsInto(FieldPlan plan, ByteBuffer buffer, int length, Object existing) throws Exception {
+        ArrayList<Object> elements = existing instanceof ArrayList<?> list ? (ArrayList<Object>) list : new ArrayList<>();
+        int fixedLength = plan.elementAttributes().length;
+        int end = buffer.position() + length;
+        int count = 0;
+        while (buffer.position() < end) {
+            int elementLength = fixedLength > 0 ? fixedLength : BinaryReader.getIntLE(buffer);
+            if (count < elements.size()) {
+                elements.set(count, readNestedInto(buffer, elementLength, plan.valueClass(), elements.get(count)));
             } else {
-                return deserializeField(context);
+                elements.add(readNestedInto(buffer, elementLength, plan.valueClass(), null));
             }
+            count++;
+        }
+        for (int i = elements.size() - 1; i >= count; i--) {
+            objectPool.release(elements.remove(i));
+        }
+        return elements;
+    }
+
+    // Serializers of mutable values, such as UUIDBitsSerializer, refill the field's current value.
+    private Object readValueInto(FieldPlan plan, ByteBuffer buffer, int length, Object existing) {
+        try {
+            return plan.serializer().readInto(buffer, length, plan.attributes(), existing);
         } catch (Exception e) {
             throw new RuntimeException("Deserialization failed", e);
         }
     }
 
-    private Object deserializeArrayField(SerializationContext context) throws Exception {
-        if (context.serializedField().innerType() == Object.class) {
-            Class<?> innerClass = serializedFieldManager.getInnerClass(context.field());
-            context.serializedFieldAttributes().setType(innerClass);
-            byte[] nestedData = getBytes(context.buffer(), context.length());
-            return new ArraySerializer<>(this).deserialize(nestedData, context.serializedFieldAttributes());
+    private Object readArrayInto(FieldPlan plan, ByteBuffer buffer, int length, Object existing) {
+        try {
+            return plan.serializer().readInto(buffer, length, plan.elementAttributes(), existing);
+        } catch (Exception e) {
+            throw new RuntimeException("Deserialization failed", e);
         }
+    }
 
-        @SuppressWarnings("unchecked")
-        Serializer<Object> serializer = (Serializer<Object>) getSerializer(context.serializedField().innerType());
-        ArraySerializer<Object> arraySerializer = new ArraySerializer<>(serializer);
-        return arraySerializer.deserialize(getBytes(context.buffer(), context.length()), context.serializedFieldAttributes());
+    private Object newInstance(Class<?> type) throws Exception {
+        Object object = objectPool.acquire(type);
+        return object != null ? object : type.getDeclaredConstructor().newInstance();
     }
 
-    private Object deserializeField(SerializationContext context) throws Exception {
-        SerializedFieldAttributes serializedFieldAttributes = context.serializedFieldAttributes();
-        serializedFieldAttributes.setLength(context.length());
-        Serializer<?> serializer = getSerializer(context.serializedField().type());
-        return serializer.deserialize(getBytes(context.buffer(), context.length()), serializedFieldAttributes);
+    private void clearField(FieldPlan plan, Object object) {
+        if (plan.kind() == FieldPlan.Kind.PRIMITIVE) {
+            clearPrimitiveField(plan, object);
+            return;
+        }
+        Object value = plan.get(object);
+        if (value == null) {
+            return;
+        }
+        if (plan.kind() == FieldPlan.Kind.NESTED) {
+            objectPool.release(value);
+        } else if (plan.isObjectArray() && value instanceof List<?> elements) {
+            for (Object element : elements) {
+                objectPool.release(element);
+            }
+        }
+        plan.set(object, null);
     }
 
-    private int getLength(SerializedField serializedField, ByteBuffer buffer) {
-        int length = serializedField.length();
-        if (length == 0 || serializedField.type() == ArraySerializer.class) { // contains variable length objects
-            length = IntegerSerializer.getInt(buffer); // for string reads size of the strings, for array reads total bytes in the array
+    private void clearPrimitiveField(FieldPlan plan, Object object) {
+        FieldAccessor accessor = plan.accessor();
+        Class<?> type = plan.valueClass();
+        if (type == int.class) {
+            accessor.setInt(object, 0);
+        } else if (type == long.class) {
+            accessor.setLong(object, 0L);
+        } else if (type == double.class) {
+            accessor.setDouble(object, 0.0);
+        } else if (type == float.class) {
+            accessor.setFloat(object, 0f);
+        } else if (type == short.class) {
+            accessor.setShort(object, (short) 0);
+        } else if (type == boolean.class) {
+            accessor.setBoolean(object, false);
         }
-        return length;
     }
 
-    private byte[] getBytes(ByteBuffer buffer, int length) {
-        byte[] bytes = new byte[length];
-        buffer.get(bytes);
-        return bytes;
+    static int getLength(FieldPlan plan, ByteBuffer buffer) {
+        int length = plan.length();
+        if (length == 0 || plan.kind() == FieldPlan.Kind.ARRAY) { // contains variable length objects
+            length = CodecSupport.readLength(buffer); // for string reads size of the strings, for array reads total bytes in the array
+        }
+        return length;
     }
 
 }
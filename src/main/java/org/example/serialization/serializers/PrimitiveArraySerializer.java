@@ -0,0 +1,167 @@
+package org.example.serialization.serializers;
+
+import org.example.serialization.buffers.BinaryWriter;
+import org.example.serialization.bulk.BulkCodec;
+import org.example.serialization.bulk.BulkCodecs;
+import org.example.serialization.dataclass.SerializedFieldAttributes;
+import org.example.serialization.interfaces.Serializer;
+
+import java.lang.reflect.Array;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Map;
+
+// Encodes double[], long[], int[], float[], short[] and byte[] fields declared with ArraySerializer, in the same layout
+// ArraySerializer uses for an ArrayList of the element serializer's type. Elements are copied in bulk, never boxed.
+public class PrimitiveArraySerializer<A> implements Serializer<A> {
+    // int[] with ByteIntSerializer and long[] with LongFrom4ByteSerializer narrow each element like the serializer does.
+    private static final Map<Class<?>, List<Class<?>>> ARRAY_TYPES = Map.of(
+            DoubleSerializer.class, List.of(double[].class),
+            LocationDataSerializer.class, List.of(double[].class),
+            LongSerializer.class, List.of(long[].class),
+            LongFrom4ByteSerializer.class, List.of(long[].class),
+            IntegerSerializer.class, List.of(int[].class),
+            ByteIntSerializer.class, List.of(byte[].class, int[].class),
+            FloatSerializer.class, List.of(float[].class),
+            ShortSerializer.class, List.of(short[].class)
+    );
+
+    private final Class<A> arrayType;
+    private final int elementSize;
+    private final BulkCodec bulkCodec;
+
+    public PrimitiveArraySerializer(Serializer<?> elementSerializer, Class<A> arrayType) {
+        this(elementSerializer, arrayType, BulkCodecs.get());
+    }
+
+    public PrimitiveArraySerializer(Serializer<?> elementSerializer, Class<A> arrayType, BulkCodec bulkCodec) {
+        if (!supports(elementSerializer.getClass(), arrayType)) {
+            throw new IllegalArgumentException(elementSerializer.getClass().getName() + " cannot encode " + arrayType.getName());
+        }
+        this.arrayType = arrayType;
+        this.elementSize = elementSerializer.fixedSize();
+        this.bulkCodec = bulkCodec;
+    }
+
+    public static boolean supports(Class<?> elementSerializerClass, Class<?> arrayType) {
+        return ARRAY_TYPES.getOrDefault(elementSerializerClass, List.of()).contains(arrayType);
+    }
+
+    public static boolean isPrimitiveArray(Class<?> type) {
+        return ARRAY_TYPES.values().stream().anyMatch(types -> types.contains(type));
+    }
+
+    @Override
+    public byte[] serialize(A array) {
+        return null;
+    }
+
+    @Override
+    public byte[] serialize(A array, SerializedFieldAttributes serializedFieldAttributes) {
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(array, serializedFieldAttributes));
+        write(buffer, array, serializedFieldAttributes);
+        return buffer.array();
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, A array, SerializedFieldAttributes serializedFieldAttributes) {
+        int size = array == null ? 0 : Array.getLength(array);
+        int length = size * elementSize;
+        if (buffer.remaining() < Integer.BYTES + length) {
+            throw new BufferOverflowException();
+        }
+        // Same prefix as ArraySerializer: the annotated element length times the count when there is one.
+        int prefix = serializedFieldAttributes.length != 0 ? size * serializedFieldAttributes.length : length;
+        BinaryWriter.putIntLE(buffer, prefix);
+        if (array instanceof double[] doubles) {
+            bulkCodec.putDoubles(buffer, doubles, 0, size);
+        } else if (array instanceof long[] longs) {
+            if (elementSize == Integer.BYTES) {
+                bulkCodec.putLongsAsInts(buffer, longs, 0, size);
+            } else {
+                bulkCodec.putLongs(buffer, longs, 0, size);
+            }
+        } else if (array instanceof int[] ints) {
+            if (elementSize == Byte.BYTES) {
+                bulkCodec.putIntsAsBytes(buffer, ints, 0, size);
+            } else {
+                bulkCodec.putInts(buffer, ints, 0, size);
+            }
+        } else if (array instanceof float[] floats) {
+            bulkCodec.putFloats(buffer, floats, 0, size);
+        } else if (array instanceof short[] shorts) {
+            buffer.slice(buffer.position(), length).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().put(shorts);
+            buffer.position(buffer.position() + length);
+        } else if (array instanceof byte[] bytes) {
+            buffer.put(bytes);
+        }
+    }
+
+    @Override
+    public int sizeOf(A array, SerializedFieldAttributes serializedFieldAttributes) {
+        return Integer.BYTES + (array == null ? 0 : Array.getLength(array) * elementSize);
+    }
+
+    @Override
+    public A deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
+        return read(ByteBuffer.wrap(data), data.length, fieldAttributes);
+    }
+
+    // Reads the next length bytes of the buffer into an array sized for them.
+    @Override
+    public A read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        return readInto(buffer, length, fieldAttributes, null);
+    }
+
+    // An array of the decoded length is overwritten in place; any other is replaced.
+    @Override
+    public A readInto(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes, A reuse) {
+        if (length % elementSize != 0) {
+            throw new IllegalArgumentException("Array length " + length + " is not a multiple of its "
+                    + elementSize + " byte elements");
+        }
+        int count = length / elementSize;
+        int end = buffer.position() + length;
+        A array = reuse != null && Array.getLength(reuse) == count ? reuse : newArray(count);
+        if (array instanceof double[] doubles) {
+            bulkCodec.getDoubles(buffer, doubles, 0, count);
+        } else if (array instanceof long[] longs) {
+            if (elementSize == Integer.BYTES) {
+                bulkCodec.getLongsFromInts(buffer, longs, 0, count);
+            } else {
+                bulkCodec.getLongs(buffer, longs, 0, count);
+            }
+        } else if (array instanceof int[] ints) {
+            if (elementSize == Byte.BYTES) {
+                bulkCodec.getIntsFromBytes(buffer, ints, 0, count);
+            } else {
+                bulkCodec.getInts(buffer, ints, 0, count);
+            }
+        } else if (array instanceof float[] floats) {
+            bulkCodec.getFloats(buffer, floats, 0, count);
+        } else if (array instanceof short[] shorts) {
+            buffer.slice(buffer.position(), count * Short.BYTES).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer().get(shorts);
+        } else if (array instanceof byte[] bytes) {
+            buffer.get(bytes);
+        }
+        buffer.position(end);
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    private A newArray(int length) {
+        return (A) Array.newInstance(arrayType.getComponentType(), length);
+    }
+
+    @Override
+    public Class<A> getType() {
+        return arrayType;
+    }
+
+    @Override
+    public A getDefaultValue() {
+        return newArray(0);
+    }
+}
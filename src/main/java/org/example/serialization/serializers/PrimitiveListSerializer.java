@@ -0,0 +1,149 @@
+package org.example.serialization.serializers;
+
+import org.example.serialization.buffers.BinaryWriter;
+import org.example.serialization.collections.DoubleList;
+import org.example.serialization.collections.FloatList;
+import org.example.serialization.collections.IntList;
+import org.example.serialization.collections.LongList;
+import org.example.serialization.dataclass.SerializedFieldAttributes;
+import org.example.serialization.interfaces.Serializer;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Map;
+
+// Encodes DoubleList, LongList, IntList and FloatList fields declared with ArraySerializer, in the same layout
+// ArraySerializer uses for an ArrayList of the element serializer's type. Elements are copied in bulk, never boxed.
+public class PrimitiveListSerializer<L extends List<?>> implements Serializer<L> {
+    private static final Map<Class<?>, Class<?>> LIST_TYPES = Map.of(
+            DoubleSerializer.class, DoubleList.class,
+            LocationDataSerializer.class, DoubleList.class,
+            LongSerializer.class, LongList.class,
+            IntegerSerializer.class, IntList.class,
+            FloatSerializer.class, FloatList.class
+    );
+
+    private final Serializer<?> elementSerializer;
+    private final Class<?> listType;
+    private final int elementSize;
+
+    public PrimitiveListSerializer(Serializer<?> elementSerializer) {
+        this.elementSerializer = elementSerializer;
+        this.listType = listTypeFor(elementSerializer.getClass());
+        if (listType == null) {
+            throw new IllegalArgumentException(elementSerializer.getClass().getName() + " has no primitive list type");
+        }
+        this.elementSize = elementSerializer.fixedSize();
+    }
+
+    // The list type holding the values of the given element serializer, or null when it has none.
+    public static Class<?> listTypeFor(Class<?> elementSerializerClass) {
+        return LIST_TYPES.get(elementSerializerClass);
+    }
+
+    public static boolean isPrimitiveList(Class<?> type) {
+        return LIST_TYPES.containsValue(type);
+    }
+
+    @Override
+    public byte[] serialize(L list) {
+        return null;
+    }
+
+    @Override
+    public byte[] serialize(L list, SerializedFieldAttributes serializedFieldAttributes) {
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(list, serializedFieldAttributes));
+        write(buffer, list, serializedFieldAttributes);
+        return buffer.array();
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, L list, SerializedFieldAttributes serializedFieldAttributes) {
+        int size = list == null ? 0 : list.size();
+        int length = size * elementSize;
+        if (buffer.remaining() < Integer.BYTES + length) {
+            throw new BufferOverflowException();
+        }
+        // Same prefix as ArraySerializer: the annotated element length times the count when there is one.
+        int prefix = serializedFieldAttributes.length != 0 ? size * serializedFieldAttributes.length : length;
+        BinaryWriter.putIntLE(buffer, prefix);
+        if (size > 0) {
+            ByteBuffer elements = buffer.slice(buffer.position(), length).order(ByteOrder.LITTLE_ENDIAN);
+            if (list instanceof DoubleList doubles) {
+                doubles.writeTo(elements.asDoubleBuffer());
+            } else if (list instanceof LongList longs) {
+                longs.writeTo(elements.asLongBuffer());
+            } else if (list instanceof IntList ints) {
+                ints.writeTo(elements.asIntBuffer());
+            } else if (list instanceof FloatList floats) {
+                floats.writeTo(elements.asFloatBuffer());
+            }
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    @Override
+    public int sizeOf(L list, SerializedFieldAttributes serializedFieldAttributes) {
+        return Integer.BYTES + (list == null ? 0 : list.size() * elementSize);
+    }
+
+    @Override
+    public L deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
+        return read(ByteBuffer.wrap(data), data.length, fieldAttributes);
+    }
+
+    // Reads the next length bytes of the buffer into a list sized for them.
+    @Override
+    public L read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        return readInto(buffer, length, fieldAttributes, null);
+    }
+
+    // A reused list is cleared and refilled, keeping its capacity.
+    @Override
+    public L readInto(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes, L reuse) {
+        if (length % elementSize != 0) {
+            throw new IllegalArgumentException("List length " + length + " is not a multiple of its "
+                    + elementSize + " byte elements");
+        }
+        int count = length / elementSize;
+        ByteBuffer elements = buffer.slice(buffer.position(), count * elementSize).order(ByteOrder.LITTLE_ENDIAN);
+        L list = reuse != null && reuse.getClass() == listType ? reuse : newList(count);
+        list.clear();
+        if (list instanceof DoubleList doubles) {
+            doubles.addFrom(elements.asDoubleBuffer());
+        } else if (list instanceof LongList longs) {
+            longs.addFrom(elements.asLongBuffer());
+        } else if (list instanceof IntList ints) {
+            ints.addFrom(elements.asIntBuffer());
+        } else if (list instanceof FloatList floats) {
+            floats.addFrom(elements.asFloatBuffer());
+        }
+        buffer.position(buffer.position() + length);
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private L newList(int capacity) {
+        if (listType == DoubleList.class) {
+            return (L) new DoubleList(capacity);
+        } else if (listType == LongList.class) {
+            return (L) new LongList(capacity);
+        } else if (listType == IntList.class) {
+            return (L) new IntList(capacity);
+        }
+        return (L) new FloatList(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Class<L> getType() {
+        return (Class<L>) listType;
+    }
+
+    @Override
+    public L getDefaultValue() {
+        return newList(0);
+    }
+}
@@ -1,32 +1,60 @@
 package org.example.serialization.serializers;
 
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
-import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.interfaces.PrimitiveSerializer;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
-public class ShortSerializer implements Serializer<Short> {
+public class ShortSerializer implements PrimitiveSerializer.OfShort {
 
     @Override
     public byte[] serialize(Short value) {
         if (value == null) {
             value = getDefaultValue();
         }
-        ByteBuffer buffer = ByteBuffer.allocate(Short.BYTES);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        buffer.putShort(value);
-        return buffer.array();
+        byte[] data = new byte[Short.BYTES];
+        BinaryWriter.putShortLE(data, 0, value);
+        return data;
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, Short value, SerializedFieldAttributes fieldAttributes) {
+        if (value == null) {
+            value = getDefaultValue();
+        }
+        writeShort(buffer, value);
+    }
+
+    @Override
+    public void writeShort(ByteBuffer buffer, short value) {
+        BinaryWriter.putShortLE(buffer, value);
     }
 
     @Override
     public Short deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
-        if (data == null || data.length != Short.BYTES) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length != Short.BYTES) {
             return null;
         }
-        ByteBuffer buffer = ByteBuffer.wrap(data);
-        buffer.order(ByteOrder.LITTLE_ENDIAN);
-        return buffer.getShort();
+        return BinaryReader.getShortLE(data, 0);
+    }
+
+    @Override
+    public Short read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        if (length != Short.BYTES) {
+            buffer.position(buffer.position() + length);
+            return null;
+        }
+        return readShort(buffer);
+    }
+
+    @Override
+    public short readShort(ByteBuffer buffer) {
+        return BinaryReader.getShortLE(buffer);
     }
 
     @Override
@@ -38,4 +66,9 @@ public class ShortSerializer implements Serializer<Short> {
     public Short getDefaultValue() {
         return 0;
     }
+
+    @Override
+    public int fixedSize() {
+        return Short.BYTES;
+    }
 }
@@ -1,9 +1,12 @@
 package org.example.serialization.serializers;
 
 import org.example.models.SleepBinning;
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
 import org.example.serialization.interfaces.Serializer;
 
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 
 public class SleepBinningSerializer implements Serializer<SleepBinning> {
@@ -12,11 +15,21 @@ public class SleepBinningSerializer implements Serializer<SleepBinning> {
         if (value == null) {
             value = getDefaultValue();
         }
+        byte[] data = new byte[8];
+        BinaryWriter.putIntBE(data, 0, value.getHrri());
+        BinaryWriter.putIntBE(data, 4, value.getHrss());
+        return data;
+    }
 
-        ByteBuffer buffer = ByteBuffer.allocate(8);
-        buffer.putInt(value.getHrri());
-        buffer.putInt(value.getHrss());
-        return buffer.array();
+    @Override
+    public void write(ByteBuffer buffer, SleepBinning value, SerializedFieldAttributes fieldAttributes) {
+        if (value == null) {
+            value = getDefaultValue();
+        }
+
+        // Unlike the other fixed width values these two are big endian on the wire.
+        BinaryWriter.putIntBE(buffer, value.getHrri());
+        BinaryWriter.putIntBE(buffer, value.getHrss());
     }
 
     @Override
@@ -25,9 +38,17 @@ public class SleepBinningSerializer implements Serializer<SleepBinning> {
             return null;
         }
 
-        ByteBuffer buffer = ByteBuffer.wrap(data);
-        int hrri = buffer.getInt();
-        int hrss = buffer.getInt();
+        return read(ByteBuffer.wrap(data), data.length, fieldAttributes);
+    }
+
+    @Override
+    public SleepBinning read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        if (length < 8) {
+            throw new BufferUnderflowException();
+        }
+        int hrri = BinaryReader.getIntBE(buffer);
+        int hrss = BinaryReader.getIntBE(buffer);
+        buffer.position(buffer.position() + length - 8);
         return new SleepBinning(hrri, hrss);
     }
 
@@ -40,4 +61,9 @@ public class SleepBinningSerializer implements Serializer<SleepBinning> {
     public SleepBinning getDefaultValue() {
         return new SleepBinning(0, 0);
     }
+
+    @Override
+    public int fixedSize() {
+        return 8;
+    }
 }
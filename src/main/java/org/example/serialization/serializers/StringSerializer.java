@@ -1,8 +1,11 @@
 package org.example.serialization.serializers;
 
+import org.example.serialization.buffers.BinaryWriter;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
 import org.example.serialization.interfaces.Serializer;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
@@ -15,26 +18,116 @@ public class StringSerializer implements Serializer<String> {
 
     @Override
     public byte[] serialize(String value, SerializedFieldAttributes dataClass) {
-         // Prefix the length if length is not specified in annotation else not
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(value, dataClass));
+        write(buffer, value, dataClass);
+        return buffer.array();
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, String value, SerializedFieldAttributes dataClass) {
         if (value == null) {
             value = getDefaultValue();
         }
-        ByteBuffer buffer;
-        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
         if(dataClass == null)
             throw new NullPointerException("Annotation cannot be null");
 
-        if (dataClass.length == 0) {
-            buffer = ByteBuffer.allocate(4 + bytes.length);
-            IntegerSerializer.putInt(buffer, bytes.length);
+        int ascii = asciiPrefix(value);
+        int length = ascii == value.length() ? ascii : utf8Length(value, ascii);
+        // Prefix the length if length is not specified in annotation else not
+        int prefix = dataClass.length == 0 ? Integer.BYTES : 0;
+        if (buffer.remaining() < prefix + length) {
+            throw new BufferOverflowException();
+        }
+        if (prefix != 0) {
+            BinaryWriter.putIntLE(buffer, length);
+        }
+        putAscii(buffer, value, ascii);
+        putUtf8(buffer, value, ascii);
+    }
+
+    // Encodes straight into the buffer. The leading ASCII chars of a heap buffer are written with the JDK's
+    // char to byte copy, an array copy for Latin-1 strings; the rest is encoded char by char like getBytes(UTF_8).
+    @SuppressWarnings("deprecation")
+    private static void putAscii(ByteBuffer buffer, String value, int count) {
+        if (buffer.hasArray()) {
+            value.getBytes(0, count, buffer.array(), buffer.arrayOffset() + buffer.position());
+            buffer.position(buffer.position() + count);
         } else {
-            buffer = ByteBuffer.allocate(bytes.length);
+            for (int i = 0; i < count; i++) {
+                buffer.put((byte) value.charAt(i));
+            }
         }
+    }
 
-        for (byte aByte : bytes) {
-            buffer.put(aByte);
+    private static void putUtf8(ByteBuffer buffer, String value, int start) {
+        int length = value.length();
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12));
+                buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | c & 0x3F));
+            }
         }
-        return buffer.array();
+    }
+
+    @Override
+    public int sizeOf(String value, SerializedFieldAttributes dataClass) {
+        if (value == null) {
+            value = getDefaultValue();
+        }
+        if (dataClass == null)
+            throw new NullPointerException("Annotation cannot be null");
+        int length = utf8Length(value);
+        return dataClass.length == 0 ? 4 + length : length;
+    }
+
+    // Length of value.getBytes(UTF_8) without encoding it; unpaired surrogates encode as a single '?'.
+    public static int utf8Length(String value) {
+        return utf8Length(value, asciiPrefix(value));
+    }
+
+    // Number of leading chars below 0x80, which encode as one byte each.
+    private static int asciiPrefix(String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && value.charAt(i) < 0x80) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int utf8Length(String value, int start) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 2;
+            }
+        }
+        return bytes;
     }
 
     @Override
@@ -46,6 +139,24 @@ public class StringSerializer implements Serializer<String> {
         return new String(data, StandardCharsets.UTF_8);
     }
 
+    @Override
+    public String read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        String value;
+        if (buffer.hasArray()) {
+            // The array outlives the buffer's limit, so check it here as get does for direct buffers.
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
     @Override
     public Class<String> getType() {
         return String.class;
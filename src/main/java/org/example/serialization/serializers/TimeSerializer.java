@@ -1,74 +1,86 @@
 package org.example.serialization.serializers;
 
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
-import org.example.serialization.interfaces.Serializer;
+import org.example.serialization.interfaces.PrimitiveSerializer;
 
-public class TimeSerializer implements Serializer<Long> {
+import java.nio.ByteBuffer;
 
+public class TimeSerializer implements PrimitiveSerializer.OfLong {
+    // 1990-01-01T00:00:00Z in epoch milliseconds.
+    private static final long TIME_OFFSET = 631152000000L;
 
     @Override
     public byte[] serialize(Long value) {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        write(buffer, value, null);
+        return buffer.array();
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, Long value, SerializedFieldAttributes fieldAttributes) {
         if (value == null) {
             value = getDefaultValue();
         }
-        StringBuilder timeString = new StringBuilder("00000000");
-        byte[] bytes = new byte[4];
-        timeString = getProcessedTimeString(value, timeString);
-
-        byte[] bArray = hexStringToByteArray(timeString.toString());
-        int x = 0;
-        for (int i = 3; i >= 0; i--) {
-            bytes[x++] = bArray[i];
-        }
-
-        return bytes;
+        writeLong(buffer, value);
     }
 
-    private StringBuilder getProcessedTimeString(Long value, StringBuilder timeString) {
-        if (value != 0) {
-            value = (value - 631152000000L);
-            if (value > 0) {
-                value /= 1000;
-                timeString = new StringBuilder(Long.toHexString(value));
-            }
-            if (timeString.length() < 8) {
-                timeString.append("0".repeat(Math.max(0, 8 - timeString.length())));
-            } else if (timeString.length() > 8) {
-                timeString = new StringBuilder("00000000");
-            }
-        }
-        return timeString;
+    @Override
+    public void writeLong(ByteBuffer buffer, long value) {
+        BinaryWriter.putIntLE(buffer, encodeTime(value));
     }
 
-    private byte[] hexStringToByteArray(String s) {
-        if (s == null || s.isEmpty() || s.length() % 2 != 0) {
-            return null;
+    // Seconds since 1990 as the 4 byte value that is written little endian. Kept compatible with the original hex
+    // string encoding: a value at or before 1990 encodes as zero, and so does one too far ahead to fit in 32 bits.
+    // Seconds of fewer than 8 hex digits were padded with zeros on the right, so they are shifted up to fill 8.
+    public static int encodeTime(long value) {
+        if (value == 0) {
+            return 0;
         }
-        int len = s.length();
-        byte[] data = new byte[len / 2];
-        for (int i = 0; i < len; i += 2) {
-            data[i / 2] = (byte) ((Character.digit(s.charAt(i), 16) << 4)
-            + Character.digit(s.charAt(i + 1), 16));
+        long offset = value - TIME_OFFSET;
+        if (offset <= 0) {
+            return 0;
         }
-        return data;
+        long seconds = offset / 1000;
+        int hexDigits = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(seconds) + 3) / 4);
+        if (hexDigits > 8) {
+            return 0;
+        }
+        return (int) (seconds << 4 * (8 - hexDigits));
+    }
+
+    // Inverse of encodeTime for the bits read little endian; zero stays zero.
+    public static long decodeTime(int bits) {
+        long seconds = Integer.toUnsignedLong(bits);
+        return seconds == 0 ? 0 : seconds * 1000 + TIME_OFFSET;
     }
 
     @Override
     public Long deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
-        if (data == null || data.length < 4) {
+        if (data == null) {
             return null;
         }
-        StringBuilder timeString = new StringBuilder();
-        for (int i = 3; i >= 0; i--) {
-            timeString.append(String.format("%02X", data[i]));
-        }
-        long time = Long.parseLong(timeString.toString(), 16);
-        if (time != 0) {
-            time = (time * 1000) + 631152000000L;
+        return read(ByteBuffer.wrap(data), data.length, fieldAttributes);
+    }
+
+    @Override
+    public Long read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        int start = buffer.position();
+        if (length < 4) {
+            buffer.position(start + length);
+            return null;
         }
+        long time = readLong(buffer);
+        buffer.position(start + length);
         return time;
     }
 
+    @Override
+    public long readLong(ByteBuffer buffer) {
+        return decodeTime(BinaryReader.getIntLE(buffer));
+    }
+
     @Override
     public Class<Long> getType() {
         return Long.class;
@@ -78,4 +90,9 @@ public class TimeSerializer implements Serializer<Long> {
     public Long getDefaultValue() {
         return 0L;
     }
+
+    @Override
+    public int fixedSize() {
+        return 4;
+    }
 }
@@ -0,0 +1,71 @@
+package org.example.serialization.serializers;
+
+import org.example.serialization.dataclass.SerializedFieldAttributes;
+import org.example.serialization.dataclass.UUIDBits;
+import org.example.serialization.interfaces.Serializer;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+// Encodes UUIDBits fields in the same 16 bytes UUIDSerializer writes for the UUID's string form.
+public class UUIDBitsSerializer implements Serializer<UUIDBits> {
+
+    @Override
+    public byte[] serialize(UUIDBits uuid) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        write(buffer, uuid, null);
+        return buffer.array();
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, UUIDBits uuid, SerializedFieldAttributes fieldAttributes) {
+        if (buffer.remaining() < 16) {
+            throw new BufferOverflowException();
+        }
+        if (uuid == null) {
+            UUIDSerializer.putBits(buffer, 0, 0);
+        } else {
+            UUIDSerializer.putBits(buffer, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        }
+    }
+
+    @Override
+    public UUIDBits deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
+        if (data == null) {
+            return null;
+        }
+        return read(ByteBuffer.wrap(data), data.length, fieldAttributes);
+    }
+
+    @Override
+    public UUIDBits read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        return readInto(buffer, length, fieldAttributes, null);
+    }
+
+    @Override
+    public UUIDBits readInto(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes, UUIDBits reuse) {
+        int start = buffer.position();
+        buffer.position(start + length);
+        if (length < 16) {
+            return null;
+        }
+        UUIDBits uuid = reuse != null ? reuse : new UUIDBits();
+        uuid.set(UUIDSerializer.highBits(buffer, start), UUIDSerializer.lowBits(buffer, start));
+        return uuid;
+    }
+
+    @Override
+    public Class<UUIDBits> getType() {
+        return UUIDBits.class;
+    }
+
+    @Override
+    public UUIDBits getDefaultValue() {
+        return new UUIDBits();
+    }
+
+    @Override
+    public int fixedSize() {
+        return 16;
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.serialization.serializers;
+
+import org.example.serialization.dataclass.SerializedFieldAttributes;
+import org.example.serialization.interfaces.Serializer;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+// Encodes java.util.UUID fields in the same 16 bytes UUIDSerializer writes for the UUID's string form.
+public class UUIDObjectSerializer implements Serializer<UUID> {
+    private static final UUID DEFAULT = new UUID(0, 0);
+
+    @Override
+    public byte[] serialize(UUID uuid) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        write(buffer, uuid, null);
+        return buffer.array();
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, UUID uuid, SerializedFieldAttributes fieldAttributes) {
+        if (uuid == null) {
+            uuid = getDefaultValue();
+        }
+        if (buffer.remaining() < 16) {
+            throw new BufferOverflowException();
+        }
+        UUIDSerializer.putBits(buffer, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    @Override
+    public UUID deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
+        if (data == null) {
+            return null;
+        }
+        return read(ByteBuffer.wrap(data), data.length, fieldAttributes);
+    }
+
+    @Override
+    public UUID read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        int start = buffer.position();
+        buffer.position(start + length);
+        if (length < 16) {
+            return null;
+        }
+        return new UUID(UUIDSerializer.highBits(buffer, start), UUIDSerializer.lowBits(buffer, start));
+    }
+
+    @Override
+    public Class<UUID> getType() {
+        return UUID.class;
+    }
+
+    @Override
+    public UUID getDefaultValue() {
+        return DEFAULT;
+    }
+
+    @Override
+    public int fixedSize() {
+        return 16;
+    }
+}
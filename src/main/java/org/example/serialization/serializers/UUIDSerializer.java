@@ -1,43 +1,128 @@
 package org.example.serialization.serializers;
 
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
 import org.example.serialization.interfaces.Serializer;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Writes the 16 bytes of the hex string in reverse order, which puts the low 64 bits first as a little endian long
+// followed by the high 64 bits. UUIDObjectSerializer and UUIDBitsSerializer share that layout.
 public class UUIDSerializer implements Serializer<String> {
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+    // Value of each ASCII hex digit, or -1.
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            HEX_VALUES[HEX_DIGITS[i]] = (byte) i;
+            HEX_VALUES[Character.toUpperCase(HEX_DIGITS[i])] = (byte) i;
+        }
+    }
 
     @Override
     public byte[] serialize(String uuid) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        write(buffer, uuid, null);
+        return buffer.array();
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, String uuid, SerializedFieldAttributes fieldAttributes) {
         if (uuid == null) {
             uuid = getDefaultValue();
         }
-        byte[] bytes = new byte[16];
-        if (uuid == null || uuid.isEmpty()) {
-            return bytes;
+        if (buffer.remaining() < 16) {
+            throw new BufferOverflowException();
         }
+        // Hex digits are parsed through a table, skipping dashes wherever they are. Anything else goes through
+        // parseHex, which keeps the Integer.parseInt behaviour for such values.
+        long high = 0;
+        long low = 0;
+        int digits = 0;
+        for (int i = 0; i < uuid.length(); i++) {
+            char c = uuid.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            int value = c < 128 ? HEX_VALUES[c] : -1;
+            if (value < 0) {
+                parseHex(buffer, uuid);
+                return;
+            }
+            if (digits < 16) {
+                high = high << 4 | value;
+            } else if (digits < 32) {
+                low = low << 4 | value;
+            }
+            digits++;
+        }
+        if (digits != 32) {
+            high = 0;
+            low = 0;
+        }
+        putBits(buffer, high, low);
+    }
+
+    private static void parseHex(ByteBuffer buffer, String uuid) {
+        int start = buffer.position();
+        // Reserve the slot first so malformed values still write sixteen zero bytes.
+        buffer.put(new byte[16]);
         uuid = uuid.replaceAll("-", "");
         if (uuid.length() == 32) {
             for (int i = 0; i < 16; i++) {
-                bytes[15 - i] = (byte) (Integer.parseInt(uuid.substring(i*2, i*2+2), 16) & 0xFF);
+                buffer.put(start + 15 - i, (byte) (Integer.parseInt(uuid.substring(i*2, i*2+2), 16) & 0xFF));
             }
         }
-        return bytes;
+    }
+
+    // Writes the 16 byte layout at the buffer's position and advances it.
+    static void putBits(ByteBuffer buffer, long high, long low) {
+        int start = buffer.position();
+        BinaryWriter.putLongLE(buffer, start, low);
+        BinaryWriter.putLongLE(buffer, start + 8, high);
+        buffer.position(start + 16);
+    }
+
+    static long highBits(ByteBuffer buffer, int start) {
+        return BinaryReader.getLongLE(buffer, start + 8);
+    }
+
+    static long lowBits(ByteBuffer buffer, int start) {
+        return BinaryReader.getLongLE(buffer, start);
     }
 
     @Override
     public String deserialize(byte[] data, SerializedFieldAttributes fieldAttributes) {
-        if (data == null || data.length < 15) {
+        if (data == null) {
             return null;
         }
-        StringBuilder builder = new StringBuilder();
+        return read(ByteBuffer.wrap(data), data.length, fieldAttributes);
+    }
+
+    @Override
+    public String read(ByteBuffer buffer, int length, SerializedFieldAttributes fieldAttributes) {
+        int start = buffer.position();
+        buffer.position(start + length);
+        if (length < 16) {
+            return null;
+        }
+        byte[] chars = new byte[36];
+        int index = 0;
         for (int i = 15; i >= 0; i--) {
-            builder.append(String.format("%02x", data[i] & 0xFF));
+            if (index == 8 || index == 13 || index == 18 || index == 23) {
+                chars[index++] = '-';
+            }
+            int value = buffer.get(start + i) & 0xFF;
+            chars[index++] = HEX_DIGITS[value >>> 4];
+            chars[index++] = HEX_DIGITS[value & 0xF];
         }
-        builder.insert(8, "-");
-        builder.insert(13, "-");
-        builder.insert(18, "-");
-        builder.insert(23, "-");
-
-        return builder.toString();
+        return new String(chars, StandardCharsets.ISO_8859_1);
     }
 
     @Override
@@ -49,4 +134,9 @@ public class UUIDSerializer implements Serializer<String> {
     public String getDefaultValue() {
         return "00000000-0000-0000-0000-000000000000";
     }
+
+    @Override
+    public int fixedSize() {
+        return 16;
+    }
 }
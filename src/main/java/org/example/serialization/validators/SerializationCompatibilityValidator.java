@@ -1,19 +1,27 @@
 package org.example.serialization.validators;
 
 import org.example.models.SleepBinning;
+import org.example.serialization.dataclass.FieldPlan;
+import org.example.serialization.dataclass.UUIDBits;
+import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.managers.SchemaManager;
+import org.example.serialization.managers.SerializedFieldManager;
 import org.jetbrains.annotations.NotNull;
 import org.example.serialization.exceptions.SerializerMismatchException;
 import org.example.serialization.serializers.*;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.lang.reflect.Field;
+import java.util.*;
 
 public class SerializationCompatibilityValidator {
     private static final Map<Class<?>, Class<?>> serializerFieldCompatibilityMap = new HashMap<>();
+    // Serializers that implement the PrimitiveSerializer interface of a primitive type also accept fields of that type.
+    private static final Map<Class<?>, Class<?>> serializerPrimitiveCompatibilityMap = new HashMap<>();
     static {
         serializerFieldCompatibilityMap.put(IntegerSerializer.class, Integer.class);
         serializerFieldCompatibilityMap.put(UUIDSerializer.class, String.class);
+        serializerFieldCompatibilityMap.put(UUIDObjectSerializer.class, UUID.class);
+        serializerFieldCompatibilityMap.put(UUIDBitsSerializer.class, UUIDBits.class);
         serializerFieldCompatibilityMap.put(StringSerializer.class, String.class);
         serializerFieldCompatibilityMap.put(DoubleSerializer.class, Double.class);
         serializerFieldCompatibilityMap.put(ArraySerializer.class, ArrayList.class);
@@ -27,6 +35,17 @@ public class SerializationCompatibilityValidator {
         serializerFieldCompatibilityMap.put(TimeSerializer.class, Long.class);
         serializerFieldCompatibilityMap.put(SleepBinningSerializer.class, SleepBinning.class);
 
+        serializerPrimitiveCompatibilityMap.put(IntegerSerializer.class, int.class);
+        serializerPrimitiveCompatibilityMap.put(ByteIntSerializer.class, int.class);
+        serializerPrimitiveCompatibilityMap.put(DoubleSerializer.class, double.class);
+        serializerPrimitiveCompatibilityMap.put(LocationDataSerializer.class, double.class);
+        serializerPrimitiveCompatibilityMap.put(BooleanSerializer.class, boolean.class);
+        serializerPrimitiveCompatibilityMap.put(ShortSerializer.class, short.class);
+        serializerPrimitiveCompatibilityMap.put(FloatSerializer.class, float.class);
+        serializerPrimitiveCompatibilityMap.put(LongSerializer.class, long.class);
+        serializerPrimitiveCompatibilityMap.put(LongFrom4ByteSerializer.class, long.class);
+        serializerPrimitiveCompatibilityMap.put(TimeSerializer.class, long.class);
+
     }
 
     public static void checkSerializerFieldCompatibility(@NotNull Class<?> serializerClass, @NotNull Class<?> fieldClass) throws SerializerMismatchException {
@@ -34,7 +53,7 @@ public class SerializationCompatibilityValidator {
         if (compatibleClass == null) {
             throw new SerializerMismatchException(serializerClass.getName() + " serializer has no corresponding compatibility for class " + fieldClass.getName());
         }
-        if (compatibleClass != fieldClass) {
+        if (compatibleClass != fieldClass && serializerPrimitiveCompatibilityMap.get(serializerClass) != fieldClass) {
             throw new SerializerMismatchException(serializerClass.getName() + " has no compatibility for class " + fieldClass.getName());
         }
     }
@@ -47,4 +66,79 @@ public class SerializationCompatibilityValidator {
             throw new IllegalArgumentException("No serializer registered for type : " + clazz.getName());
         }
     }
+
+    public static void checkFieldPlan(@NotNull FieldPlan plan) throws SerializerMismatchException {
+        SerializedField annotation = plan.serializedField();
+        switch (plan.kind()) {
+            case SIMPLE, PRIMITIVE -> {
+                checkSupportedSerializer(annotation.type());
+                checkSerializerFieldCompatibility(annotation.type(), plan.field().getType());
+            }
+            case ARRAY -> {
+                if (PrimitiveListSerializer.isPrimitiveList(plan.field().getType())) {
+                    if (PrimitiveListSerializer.listTypeFor(annotation.innerType()) != plan.field().getType()) {
+                        throw new SerializerMismatchException(annotation.innerType().getName() + " has no compatibility for class " + plan.field().getType().getName());
+                    }
+                    return;
+                }
+                if (plan.field().getType().isArray()) {
+                    if (!PrimitiveArraySerializer.supports(annotation.innerType(), plan.field().getType())) {
+                        throw new SerializerMismatchException(annotation.innerType().getName() + " has no compatibility for class " + plan.field().getType().getName());
+                    }
+                    return;
+                }
+                checkSerializerFieldCompatibility(ArraySerializer.class, plan.field().getType());
+                if (plan.valueClass() == null) {
+                    throw new SerializerMismatchException(plan.field().getName() + " is not a parameterized type");
+                }
+                if (!plan.isObjectArray()) {
+                    checkSupportedSerializer(annotation.innerType());
+                    checkSerializerFieldCompatibility(annotation.innerType(), plan.valueClass());
+                }
+            }
+            case NESTED -> {
+                // nested types are validated when their own schema is built
+            }
+        }
+    }
+
+    // Eagerly builds and validates the schemas of the given classes and every nested type they reach,
+    // so misconfigured models fail at startup instead of on the first message.
+    public static void validate(Class<?>... classes) throws SerializerMismatchException {
+        SchemaManager schemaManager = new SchemaManager();
+        SerializedFieldManager serializedFieldManager = new SerializedFieldManager();
+        List<String> problems = new ArrayList<>();
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>(Arrays.asList(classes));
+
+        while (!pending.isEmpty()) {
+            Class<?> clazz = pending.pop();
+            if (!visited.add(clazz)) {
+                continue;
+            }
+            try {
+                schemaManager.getSchema(clazz);
+            } catch (IllegalArgumentException e) {
+                problems.add(e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+            for (Field field : clazz.getDeclaredFields()) {
+                SerializedField annotation = field.getAnnotation(SerializedField.class);
+                if (annotation == null) {
+                    continue;
+                }
+                if (annotation.type() == Object.class) {
+                    pending.push(field.getType());
+                } else if (annotation.type() == ArraySerializer.class && annotation.innerType() == Object.class) {
+                    try {
+                        pending.push(serializedFieldManager.getInnerClass(field));
+                    } catch (Exception ignored) {
+                        // already reported while building the schema of clazz
+                    }
+                }
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new SerializerMismatchException(String.join("\n", problems));
+        }
+    }
 }
@@ -6,13 +6,26 @@ import org.example.serialization.dataclass.SerializedFieldAttributes;
 import org.example.serialization.interfaces.Serializer;
 import org.example.serialization.serializers.ArraySerializer;
 import org.example.serialization.serializers.DoubleSerializer;
+import org.example.serialization.serializers.FloatSerializer;
+import org.example.serialization.serializers.IntegerSerializer;
+import org.example.serialization.serializers.LongSerializer;
+import org.example.serialization.serializers.PrimitiveArraySerializer;
+import org.example.serialization.serializers.ShortSerializer;
 import org.example.serialization.serializers.SleepBinningSerializer;
+import org.example.serialization.serializers.StringSerializer;
 import org.example.serialization.serializers.TimeSerializer;
 
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ArraySerializerTest {
 
@@ -163,5 +176,154 @@ public class ArraySerializerTest {
             assertEquals(original.getHrss(), result.getHrss());
         }
     }
-}
 
+    @Test
+    public void testSizeOfMatchesSerializedLength() {
+        ArraySerializer<Double> doubleArraySerializer = new ArraySerializer<>(new DoubleSerializer());
+        SerializedFieldAttributes doubleAttributes = new SerializedFieldAttributes(ArrayList.class, (byte)0x12, 8, false);
+        ArrayList<Double> doubles = new ArrayList<>(Arrays.asList(1.23, 4.56, 7.89));
+        assertEquals(doubleArraySerializer.serialize(doubles, doubleAttributes).length, doubleArraySerializer.sizeOf(doubles, doubleAttributes));
+        assertEquals(4, doubleArraySerializer.sizeOf(null, doubleAttributes));
+
+        ArraySerializer<String> stringArraySerializer = new ArraySerializer<>(new StringSerializer());
+        SerializedFieldAttributes stringAttributes = new SerializedFieldAttributes(ArrayList.class, (byte)0x12, 0, false);
+        ArrayList<String> strings = new ArrayList<>(Arrays.asList("Max", "", "\u00e9t\u00e9"));
+        assertEquals(stringArraySerializer.serialize(strings, stringAttributes).length, stringArraySerializer.sizeOf(strings, stringAttributes));
+    }
+
+    @Test
+    public void testWritePatchesPrefixAtBufferPosition() {
+        ArraySerializer<String> stringArraySerializer = new ArraySerializer<>(new StringSerializer());
+        SerializedFieldAttributes stringAttributes = new SerializedFieldAttributes(ArrayList.class, (byte)0x12, 0, false);
+        ArrayList<String> strings = new ArrayList<>(Arrays.asList("Max", "", "\u00e9t\u00e9"));
+        byte[] expected = stringArraySerializer.serialize(strings, stringAttributes);
+
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length + 6);
+        buffer.position(6);
+        stringArraySerializer.write(buffer, strings, stringAttributes);
+        assertEquals(buffer.capacity(), buffer.position());
+        assertArrayEquals(expected, Arrays.copyOfRange(buffer.array(), 6, buffer.capacity()));
+
+        buffer.position(10);
+        assertEquals(strings, stringArraySerializer.read(buffer, expected.length - 4, stringAttributes));
+    }
+
+    @Test
+    public void testElementPastArrayLengthIsRejected() {
+        ArraySerializer<String> stringArraySerializer = new ArraySerializer<>(new StringSerializer());
+        SerializedFieldAttributes stringAttributes = new SerializedFieldAttributes(ArrayList.class, (byte)0x12, 0, false);
+        // "Max", then an element claiming 10 bytes of which only 2 are inside the array; a next field follows.
+        ByteBuffer buffer = ByteBuffer.allocate(21).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(3).put("Max".getBytes(StandardCharsets.UTF_8)).putInt(10).put((byte) 'a').put((byte) 'b');
+        buffer.put((byte) 0x13).putInt(7).putShort((short) 0).put((byte) 0).order(ByteOrder.BIG_ENDIAN).flip();
+
+        assertThrows(BufferUnderflowException.class, () -> stringArraySerializer.read(buffer, 13, stringAttributes));
+        assertEquals(21, buffer.limit());
+        assertThrows(BufferUnderflowException.class,
+                () -> stringArraySerializer.deserialize(Arrays.copyOf(buffer.array(), 13), stringAttributes));
+    }
+
+    @Test
+    public void testByteArrayOnlySerializerUsesDefaultBridge() {
+        ArraySerializer<String> asciiArraySerializer = new ArraySerializer<>(new AsciiSerializer());
+        SerializedFieldAttributes attributes = new SerializedFieldAttributes(ArrayList.class, (byte)0x12, 2, false);
+        ArrayList<String> values = new ArrayList<>(Arrays.asList("ab", "cd"));
+
+        byte[] serialized = asciiArraySerializer.serialize(values, attributes);
+        ByteBuffer buffer = ByteBuffer.wrap(serialized).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(4, buffer.getInt());
+        assertEquals("abcd", new String(serialized, 4, 4, StandardCharsets.US_ASCII));
+        assertEquals(values, asciiArraySerializer.deserialize(Arrays.copyOfRange(serialized, 4, serialized.length), attributes));
+    }
+
+    @Test
+    public void testBulkPathMatchesElementEncoding() {
+        assertBulkMatchesElements(new DoubleSerializer(), Arrays.asList(1.5, null, -0.0, Double.NaN, Double.MAX_VALUE));
+        assertBulkMatchesElements(new FloatSerializer(), Arrays.asList(1.5f, null, Float.MIN_VALUE));
+        assertBulkMatchesElements(new LongSerializer(), Arrays.asList(1L, null, Long.MIN_VALUE));
+        assertBulkMatchesElements(new IntegerSerializer(), Arrays.asList(1, null, -7, Integer.MAX_VALUE));
+        assertBulkMatchesElements(new ShortSerializer(), Arrays.asList((short) 1, null, Short.MIN_VALUE));
+        assertBulkMatchesElements(new TimeSerializer(), Arrays.asList(1629216000000L, null, 0L, 4294967295L * 1000 + 631152000000L));
+    }
+
+    private static <E> void assertBulkMatchesElements(Serializer<E> elementSerializer, List<E> values) {
+        ArraySerializer<E> arraySerializer = new ArraySerializer<>(elementSerializer);
+        int elementLength = elementSerializer.fixedSize();
+        SerializedFieldAttributes attributes = new SerializedFieldAttributes(ArrayList.class, (byte)0x12, elementLength, false);
+
+        ByteBuffer expected = ByteBuffer.allocate(4 + values.size() * elementLength).order(ByteOrder.LITTLE_ENDIAN);
+        expected.putInt(values.size() * elementLength);
+        for (E value : values) {
+            expected.put(elementSerializer.serialize(value));
+        }
+        byte[] serialized = arraySerializer.serialize(new ArrayList<>(values), attributes);
+        assertArrayEquals(expected.array(), serialized);
+
+        ArrayList<E> deserialized = arraySerializer.deserialize(Arrays.copyOfRange(serialized, 4, serialized.length), attributes);
+        assertEquals(values.size(), deserialized.size());
+        for (int i = 0; i < values.size(); i++) {
+            E value = values.get(i) == null ? elementSerializer.getDefaultValue() : values.get(i);
+            assertEquals(value, deserialized.get(i));
+        }
+    }
+
+    @Test
+    public void testBulkPathRejectsPartialElement() {
+        ArraySerializer<Double> doubleArraySerializer = new ArraySerializer<>(new DoubleSerializer());
+        SerializedFieldAttributes attributes = new SerializedFieldAttributes(ArrayList.class, (byte)0x12, 8, false);
+        assertThrows(IllegalArgumentException.class, () -> doubleArraySerializer.read(ByteBuffer.allocate(16), 12, attributes));
+        assertThrows(IllegalArgumentException.class, () -> doubleArraySerializer.deserialize(new byte[12], attributes));
+    }
+
+    @Test
+    public void testPrimitiveArrayRejectsPartialElement() {
+        PrimitiveArraySerializer<long[]> longArraySerializer = new PrimitiveArraySerializer<>(new LongSerializer(), long[].class);
+        SerializedFieldAttributes attributes = new SerializedFieldAttributes(ArrayList.class, (byte)0x12, 8, false);
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        assertThrows(IllegalArgumentException.class, () -> longArraySerializer.read(buffer, 12, attributes));
+        assertEquals(0, buffer.position());
+        assertThrows(IllegalArgumentException.class, () -> longArraySerializer.deserialize(new byte[12], attributes));
+    }
+
+    @Test
+    public void testBulkPathReadsLargeArrayFromDirectBuffer() {
+        ArraySerializer<Double> doubleArraySerializer = new ArraySerializer<>(new DoubleSerializer());
+        SerializedFieldAttributes attributes = new SerializedFieldAttributes(ArrayList.class, (byte)0x12, 8, false);
+        ArrayList<Double> samples = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            samples.add(i * 0.25);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(doubleArraySerializer.sizeOf(samples, attributes) + 3);
+        buffer.position(3);
+        doubleArraySerializer.write(buffer, samples, attributes);
+        assertEquals(buffer.capacity(), buffer.position());
+
+        buffer.position(7);
+        assertEquals(samples, doubleArraySerializer.read(buffer, samples.size() * 8, attributes));
+        assertEquals(buffer.capacity(), buffer.position());
+    }
+
+    // Implements only the byte[] contract, as serializers written before write/read did.
+    private static class AsciiSerializer implements Serializer<String> {
+        @Override
+        public byte[] serialize(String value) {
+            return value.getBytes(StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public String deserialize(byte[] data, SerializedFieldAttributes dataClass) {
+            return new String(data, StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public Class<String> getType() {
+            return String.class;
+        }
+
+        @Override
+        public String getDefaultValue() {
+            return "";
+        }
+    }
+}
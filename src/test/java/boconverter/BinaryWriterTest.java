@@ -0,0 +1,65 @@
+package boconverter;
+
+import org.example.serialization.buffers.BinaryReader;
+import org.example.serialization.buffers.BinaryWriter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryWriterTest {
+
+    @Test
+    void testMatchesByteBufferInEitherOrder() {
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(33).slice(3, 30), ByteBuffer.allocateDirect(30)}) {
+            BinaryWriter.putShortLE(buffer, (short) -2);
+            BinaryWriter.putIntLE(buffer, 0x01020304);
+            BinaryWriter.putIntBE(buffer, 0x01020304);
+            BinaryWriter.putLongLE(buffer, 0x0102030405060708L);
+            BinaryWriter.putFloatLE(buffer, 1.5f);
+            BinaryWriter.putDoubleLE(buffer, -2.25);
+            BinaryWriter.putIntLE(buffer, 2, 7);
+            assertEquals(30, buffer.position());
+            assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+
+            ByteBuffer expected = ByteBuffer.allocate(30).order(ByteOrder.LITTLE_ENDIAN)
+                    .putShort((short) -2).putInt(7)
+                    .order(ByteOrder.BIG_ENDIAN).putInt(0x01020304)
+                    .order(ByteOrder.LITTLE_ENDIAN).putLong(0x0102030405060708L).putFloat(1.5f).putDouble(-2.25);
+            assertEquals(expected.flip(), buffer.flip());
+
+            assertEquals(-2, BinaryReader.getShortLE(buffer));
+            assertEquals(7, BinaryReader.getIntLE(buffer));
+            assertEquals(0x01020304, BinaryReader.getIntBE(buffer));
+            assertEquals(0x0102030405060708L, BinaryReader.getLongLE(buffer));
+            assertEquals(1.5f, BinaryReader.getFloatLE(buffer));
+            assertEquals(-2.25, BinaryReader.getDoubleLE(buffer));
+            assertFalse(buffer.hasRemaining());
+            assertEquals(7, BinaryReader.getIntLE(buffer, 2));
+        }
+    }
+
+    @Test
+    void testByteArraysUseTheSameLayout() {
+        byte[] data = new byte[12];
+        BinaryWriter.putLongLE(data, 0, 0x0102030405060708L);
+        BinaryWriter.putIntBE(data, 8, 0x0A0B0C0D);
+        assertArrayEquals(new byte[]{8, 7, 6, 5, 4, 3, 2, 1, 10, 11, 12, 13}, data);
+        assertEquals(0x0D0C0B0A, BinaryReader.getIntLE(data, 8));
+        assertEquals(0x0102030405060708L, BinaryReader.getLongLE(ByteBuffer.wrap(data), 0));
+    }
+
+    @Test
+    void testShortBufferKeepsPosition() {
+        ByteBuffer buffer = ByteBuffer.allocate(8).position(5);
+        assertThrows(BufferOverflowException.class, () -> BinaryWriter.putIntLE(buffer, 1));
+        assertThrows(BufferUnderflowException.class, () -> BinaryReader.getLongLE(buffer));
+        assertEquals(5, buffer.position());
+        assertArrayEquals(new byte[8], buffer.array());
+        assertThrows(IndexOutOfBoundsException.class, () -> BinaryWriter.putIntLE(buffer, 6, 1));
+    }
+}
@@ -0,0 +1,91 @@
+package boconverter;
+
+import org.example.serialization.buffers.BufferPool;
+import org.example.serialization.buffers.BufferPoolStats;
+import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.serializers.ObjectSerializer;
+import org.example.serialization.serializers.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BufferPoolTest {
+
+    public static class Message {
+        @SerializedField(type = StringSerializer.class, identifier = 0x01)
+        private String body;
+
+        public String getBody() {
+            return body;
+        }
+
+        public void setBody(String body) {
+            this.body = body;
+        }
+    }
+
+    @Test
+    void testAcquireReusesReleasedBuffer() {
+        BufferPool pool = new BufferPool(2, 64, 1024, 4096);
+        ByteBuffer first = pool.acquire();
+        first.put((byte) 1);
+        pool.release(first);
+
+        ByteBuffer second = pool.acquire();
+        assertSame(first, second);
+        assertEquals(0, second.position());
+
+        BufferPoolStats stats = pool.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0, stats.retainedBytes());
+    }
+
+    @Test
+    void testGrowAndShrinkAfterOutlier() {
+        BufferPool pool = new BufferPool(2, 64, 1024, 4096);
+        ByteBuffer buffer = pool.grow(pool.acquire(), 100);
+        assertEquals(128, buffer.capacity());
+        buffer = pool.grow(buffer, 5000);
+        assertEquals(5000, buffer.capacity());
+
+        pool.release(buffer);
+        BufferPoolStats stats = pool.stats();
+        assertEquals(2, stats.grows());
+        assertEquals(1, stats.shrinks());
+        assertEquals(0, stats.retainedBytes());
+    }
+
+    @Test
+    void testRetainedBytesAreCapped() {
+        BufferPool pool = new BufferPool(4, 64, 1024, 100);
+        ByteBuffer first = pool.acquire();
+        ByteBuffer second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+
+        BufferPoolStats stats = pool.stats();
+        assertEquals(64, stats.retainedBytes());
+        assertEquals(1, stats.shrinks());
+    }
+
+    @Test
+    void testSerializeBeyondEightMegabytes() throws Exception {
+        BufferPool pool = new BufferPool(2, 1024, 64 * 1024, 128 * 1024);
+        ObjectSerializer serializer = new ObjectSerializer(pool);
+        Message message = new Message();
+        message.setBody("x".repeat(9 * 1024 * 1024));
+
+        byte[] bytes = serializer.serialize(message);
+        assertEquals(1 + 4 + 9 * 1024 * 1024, bytes.length);
+        assertEquals(message.getBody(), ((Message) serializer.deserialize(bytes, Message.class)).getBody());
+        assertEquals(1, pool.stats().grows());
+        assertEquals(0, pool.stats().retainedBytes());
+
+        message.setBody("small");
+        assertArrayEquals(new byte[]{1, 5, 0, 0, 0, 's', 'm', 'a', 'l', 'l'}, serializer.serialize(message));
+        assertEquals(1024, pool.stats().retainedBytes());
+    }
+}
@@ -0,0 +1,153 @@
+package boconverter;
+
+import org.example.serialization.bulk.BulkCodec;
+import org.example.serialization.bulk.BulkCodecs;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class BulkCodecTest {
+    // Below, at and around whole vectors, so both the vector loops and their scalar tails run.
+    private static final int[] COUNTS = {0, 1, 7, 8, 15, 16, 17, 63, 64, 65, 1000};
+    private static final int OFFSET = 3;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void testVectorCodecIsAvailableWithModule() {
+        // The test task starts the JVM with --add-modules jdk.incubator.vector.
+        assertNotNull(BulkCodecs.vector());
+        assertSame(BulkCodecs.vector(), BulkCodecs.get());
+    }
+
+    @Test
+    void testScalarCodecWritesLittleEndian() {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + 2 * Integer.BYTES + 1);
+        BulkCodecs.scalar().putLongs(buffer, new long[]{0x0102030405060708L}, 0, 1);
+        BulkCodecs.scalar().putLongsAsInts(buffer, new long[]{0x1122334455667788L, -1L}, 0, 2);
+        BulkCodecs.scalar().putIntsAsBytes(buffer, new int[]{0x1FF}, 0, 1);
+        assertArrayEquals(new byte[]{8, 7, 6, 5, 4, 3, 2, 1, (byte) 0x88, 0x77, 0x66, 0x55, -1, -1, -1, -1, -1}, buffer.array());
+        assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+    }
+
+    @Test
+    void testVectorCodecMatchesScalarCodec() {
+        BulkCodec vector = BulkCodecs.vector();
+        assumeTrue(vector != null);
+        BulkCodec scalar = BulkCodecs.scalar();
+        for (boolean direct : new boolean[]{false, true}) {
+            for (int count : COUNTS) {
+                double[] doubles = random.doubles(OFFSET + count).toArray();
+                float[] floats = new float[OFFSET + count];
+                long[] longs = random.longs(OFFSET + count).toArray();
+                int[] ints = random.ints(OFFSET + count).toArray();
+                for (int i = 0; i < floats.length; i++) {
+                    floats[i] = random.nextFloat() - 0.5f;
+                }
+
+                assertSameBytes(scalar, vector, direct, count * Double.BYTES, (codec, buffer) -> codec.putDoubles(buffer, doubles, OFFSET, count));
+                assertSameBytes(scalar, vector, direct, count * Float.BYTES, (codec, buffer) -> codec.putFloats(buffer, floats, OFFSET, count));
+                assertSameBytes(scalar, vector, direct, count * Long.BYTES, (codec, buffer) -> codec.putLongs(buffer, longs, OFFSET, count));
+                assertSameBytes(scalar, vector, direct, count * Integer.BYTES, (codec, buffer) -> codec.putInts(buffer, ints, OFFSET, count));
+                assertSameBytes(scalar, vector, direct, count, (codec, buffer) -> codec.putIntsAsBytes(buffer, ints, OFFSET, count));
+                assertSameBytes(scalar, vector, direct, count * Integer.BYTES, (codec, buffer) -> codec.putLongsAsInts(buffer, longs, OFFSET, count));
+
+                ByteBuffer encoded = allocate(direct, count * Long.BYTES + 1);
+                random.ints(encoded.capacity()).forEach(value -> encoded.put((byte) value));
+                encoded.position(1);
+                double[] expectedDoubles = new double[OFFSET + count];
+                double[] actualDoubles = new double[OFFSET + count];
+                scalar.getDoubles(encoded.duplicate(), expectedDoubles, OFFSET, count);
+                vector.getDoubles(encoded.duplicate(), actualDoubles, OFFSET, count);
+                assertArrayEquals(expectedDoubles, actualDoubles);
+
+                float[] expectedFloats = new float[OFFSET + count];
+                float[] actualFloats = new float[OFFSET + count];
+                scalar.getFloats(encoded.duplicate(), expectedFloats, OFFSET, count);
+                vector.getFloats(encoded.duplicate(), actualFloats, OFFSET, count);
+                assertArrayEquals(expectedFloats, actualFloats);
+
+                long[] expectedLongs = new long[OFFSET + count];
+                long[] actualLongs = new long[OFFSET + count];
+                scalar.getLongs(encoded.duplicate(), expectedLongs, OFFSET, count);
+                vector.getLongs(encoded.duplicate(), actualLongs, OFFSET, count);
+                assertArrayEquals(expectedLongs, actualLongs);
+                scalar.getLongsFromInts(encoded.duplicate(), expectedLongs, OFFSET, count);
+                vector.getLongsFromInts(encoded.duplicate(), actualLongs, OFFSET, count);
+                assertArrayEquals(expectedLongs, actualLongs);
+
+                int[] expectedInts = new int[OFFSET + count];
+                int[] actualInts = new int[OFFSET + count];
+                scalar.getInts(encoded.duplicate(), expectedInts, OFFSET, count);
+                vector.getInts(encoded.duplicate(), actualInts, OFFSET, count);
+                assertArrayEquals(expectedInts, actualInts);
+                scalar.getIntsFromBytes(encoded.duplicate(), expectedInts, OFFSET, count);
+                vector.getIntsFromBytes(encoded.duplicate(), actualInts, OFFSET, count);
+                assertArrayEquals(expectedInts, actualInts);
+            }
+        }
+    }
+
+    @Test
+    void testTransfersStopAtTheLimit() {
+        List<BulkCodec> codecs = new ArrayList<>(List.of(BulkCodecs.scalar()));
+        if (BulkCodecs.vector() != null) {
+            codecs.add(BulkCodecs.vector());
+        }
+        // 64 elements fill whole vectors, so the vector loops are the ones that would run past the limit.
+        int count = 64;
+        for (BulkCodec codec : codecs) {
+            for (boolean direct : new boolean[]{false, true}) {
+                ByteBuffer backing = direct ? ByteBuffer.allocateDirect(1024) : ByteBuffer.allocate(1024);
+                ByteBuffer buffer = backing.slice(0, count * Long.BYTES).limit(count - 1);
+                int[] ints = new int[count];
+                long[] longs = new long[count];
+                Arrays.fill(ints, -1);
+                Arrays.fill(longs, -1L);
+                assertThrows(BufferOverflowException.class, () -> codec.putIntsAsBytes(buffer, ints, 0, count));
+                assertThrows(BufferUnderflowException.class, () -> codec.getIntsFromBytes(buffer, ints, 0, count));
+                buffer.limit(count * Integer.BYTES - 1);
+                assertThrows(BufferOverflowException.class, () -> codec.putLongsAsInts(buffer, longs, 0, count));
+                assertThrows(BufferUnderflowException.class, () -> codec.getLongsFromInts(buffer, longs, 0, count));
+                assertThrows(BufferOverflowException.class, () -> codec.putLongs(buffer, longs, 0, count));
+                assertThrows(BufferUnderflowException.class, () -> codec.getLongs(buffer, longs, 0, count));
+
+                assertEquals(0, buffer.position());
+                for (int i = 0; i < backing.capacity(); i++) {
+                    assertEquals(0, backing.get(i));
+                }
+            }
+        }
+    }
+
+    private interface Put {
+        void apply(BulkCodec codec, ByteBuffer buffer);
+    }
+
+    // Writes after a one byte header so the vector stores are unaligned, then checks bytes and positions agree.
+    private static void assertSameBytes(BulkCodec scalar, BulkCodec vector, boolean direct, int length, Put put) {
+        ByteBuffer expected = allocate(direct, length + 1).position(1);
+        ByteBuffer actual = allocate(direct, length + 1).position(1);
+        put.apply(scalar, expected);
+        put.apply(vector, actual);
+        assertEquals(expected.position(), actual.position());
+        assertEquals(length + 1, actual.position());
+        assertEquals(expected.flip(), actual.flip());
+        assertEquals(ByteOrder.BIG_ENDIAN, actual.order());
+    }
+
+    // Heap buffers are slices, so their array offset is not zero.
+    private static ByteBuffer allocate(boolean direct, int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity + 5).slice(5, capacity);
+    }
+}
@@ -0,0 +1,113 @@
+package boconverter;
+
+import org.example.models.Area;
+import org.example.models.Food;
+import org.example.models.ZoneType;
+import org.example.serialization.buffers.BoundedObjectPool;
+import org.example.serialization.buffers.BufferPool;
+import org.example.serialization.collections.DoubleList;
+import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.serializers.ArraySerializer;
+import org.example.serialization.serializers.DoubleSerializer;
+import org.example.serialization.serializers.IntegerSerializer;
+import org.example.serialization.serializers.ObjectSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeserializeIntoTest {
+    private final BoundedObjectPool objectPool = new BoundedObjectPool(8);
+    private final ObjectSerializer serializer = new ObjectSerializer(BufferPool.getDefault(), objectPool);
+
+    public static class Samples {
+        @SerializedField(type = IntegerSerializer.class, identifier = 0x01, length = 4)
+        int count;
+
+        @SerializedField(type = ArraySerializer.class, innerType = DoubleSerializer.class, identifier = 0x02, length = 8)
+        double[] heights;
+
+        @SerializedField(type = ArraySerializer.class, innerType = DoubleSerializer.class, identifier = 0x03, length = 8)
+        DoubleList weights;
+    }
+
+    @Test
+    void testDecodesIntoExistingObjects() throws Exception {
+        Food food = ObjectSerializerTest.createFood();
+        byte[] data = serializer.serialize(food);
+        Food target = (Food) serializer.deserialize(serializer.serialize(foodWithAreas(5)), Food.class);
+        ZoneType zoneType = target.getZoneType();
+        ArrayList<Area> areas = zoneType.getAreas();
+        Area first = areas.get(0);
+        ArrayList<Double> values = target.getArrayList();
+
+        assertSame(target, serializer.deserializeInto(data, target));
+        assertSame(zoneType, target.getZoneType());
+        assertSame(areas, zoneType.getAreas());
+        assertSame(first, areas.get(0));
+        assertSame(values, target.getArrayList());
+        assertEquals(3, areas.size());
+        assertArrayEquals(data, serializer.serialize(target));
+    }
+
+    @Test
+    void testLeftoverAndMissingObjectsGoToPool() throws Exception {
+        Food target = (Food) serializer.deserialize(serializer.serialize(foodWithAreas(5)), Food.class);
+        ZoneType zoneType = target.getZoneType();
+        Area last = zoneType.getAreas().get(4);
+
+        serializer.deserializeInto(serializer.serialize(foodWithAreas(3)), target);
+        assertEquals(3, zoneType.getAreas().size());
+        serializer.deserializeInto(serializer.serialize(foodWithAreas(5)), target);
+        assertTrue(zoneType.getAreas().contains(last));
+
+        Food food = ObjectSerializerTest.createFood();
+        food.setZoneType(null);
+        byte[] data = serializer.serialize(food);
+        serializer.deserializeInto(ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN), target);
+        assertNull(target.getZoneType());
+        assertArrayEquals(data, serializer.serialize(target));
+        assertSame(zoneType, objectPool.acquire(ZoneType.class));
+    }
+
+    @Test
+    void testPrimitiveArraysAndListsAreReused() throws Exception {
+        Samples samples = new Samples();
+        samples.count = 2;
+        samples.heights = new double[]{1.5, 2.5};
+        samples.weights = DoubleList.of(3.5, 4.5, 5.5);
+        byte[] data = serializer.serialize(samples);
+
+        Samples target = new Samples();
+        target.heights = new double[2];
+        target.weights = new DoubleList(16);
+        double[] heights = target.heights;
+        DoubleList weights = target.weights;
+        serializer.deserializeInto(data, target);
+        assertSame(heights, target.heights);
+        assertSame(weights, target.weights);
+        assertArrayEquals(data, serializer.serialize(target));
+
+        samples.heights = new double[]{1.5};
+        serializer.deserializeInto(serializer.serialize(samples), target);
+        assertNotSame(heights, target.heights);
+        assertArrayEquals(new double[]{1.5}, target.heights);
+    }
+
+    private static Food foodWithAreas(int count) {
+        Food food = ObjectSerializerTest.createFood();
+        food.setFoodName("Other");
+        ArrayList<Area> areas = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Area area = new Area();
+            area.setAreaName("Other" + i);
+            area.setArea(i * 2.0);
+            areas.add(area);
+        }
+        food.getZoneType().setAreas(areas);
+        return food;
+    }
+}
@@ -0,0 +1,176 @@
+package boconverter;
+
+import org.example.models.Area;
+import org.example.models.Food;
+import org.example.models.ZoneType;
+import org.example.serialization.codecs.CodecMode;
+import org.example.serialization.interfaces.ObjectCodec;
+import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.managers.CodecManager;
+import org.example.serialization.serializers.ObjectSerializer;
+import org.example.serialization.serializers.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratedCodecTest {
+
+    public static class Plain {
+        @SerializedField(type = StringSerializer.class, identifier = 0x01)
+        private String name;
+
+        @SerializedField(type = StringSerializer.class, identifier = 0x02)
+        private String secret;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Immutable {
+        @SerializedField(type = StringSerializer.class, identifier = 0x01)
+        private final String name = "fixed";
+    }
+
+    private final CodecManager codecManager = new CodecManager();
+
+    @AfterEach
+    void resetMode() {
+        CodecManager.setMode(CodecMode.AUTO);
+    }
+
+    @Test
+    void testGeneratedCodecsArePresent() {
+        assertEquals("org.example.models.AreaCodec", codecManager.getCodec(Area.class).getClass().getName());
+        assertEquals("org.example.models.ZoneTypeCodec", codecManager.getCodec(ZoneType.class).getClass().getName());
+        assertEquals("org.example.models.FoodCodec", codecManager.getCodec(Food.class).getClass().getName());
+    }
+
+    @Test
+    void testRuntimeCodecWithoutGeneratedCodec() throws Exception {
+        ObjectCodec<Plain> codec = codecManager.getCodec(Plain.class);
+        assertTrue(codec.getClass().isHidden());
+        assertSame(codec, codecManager.getCodec(Plain.class, CodecMode.GENERATED));
+        assertNull(codecManager.getCodec(Plain.class, CodecMode.REFLECTION));
+
+        Plain plain = new Plain();
+        plain.setName("plain");
+        plain.secret = "private";
+        ObjectSerializer serializer = new ObjectSerializer();
+        byte[] bytes = serializer.serialize(plain);
+        Plain result = (Plain) serializer.deserialize(bytes, Plain.class);
+        assertEquals("plain", result.getName());
+        assertEquals("private", result.secret);
+
+        CodecManager.setMode(CodecMode.REFLECTION);
+        assertArrayEquals(bytes, serializer.serialize(plain));
+    }
+
+    @Test
+    void testModesProduceIdenticalBytes() throws Exception {
+        Food food = ObjectSerializerTest.createFood();
+        ObjectSerializer serializer = new ObjectSerializer();
+
+        CodecManager.setMode(CodecMode.REFLECTION);
+        byte[] expected = serializer.serialize(food);
+        for (CodecMode mode : CodecMode.values()) {
+            CodecManager.setMode(mode);
+            assertArrayEquals(expected, serializer.serialize(food), mode.name());
+            Food result = (Food) serializer.deserialize(expected, Food.class);
+            assertEquals(food.getFoodName(), result.getFoodName());
+            assertEquals("Area2", result.getZoneType().getAreas().get(2).getAreaName());
+        }
+    }
+
+    @Test
+    void testNestedObjectsGoThroughTheCallingSerializer() throws Exception {
+        Food food = ObjectSerializerTest.createFood();
+        for (CodecMode mode : CodecMode.values()) {
+            CodecManager.setMode(mode);
+            CountingSerializer serializer = new CountingSerializer();
+            byte[] bytes = serializer.serialize(food);
+            serializer.deserialize(bytes, Food.class);
+            // Food itself and its zoneType are written through the serializer, and zoneType is read through it.
+            assertEquals(2, serializer.writes, mode.name());
+            assertEquals(1, serializer.reads, mode.name());
+        }
+    }
+
+    private static class CountingSerializer extends ObjectSerializer {
+        int writes;
+        int reads;
+
+        @Override
+        public void writeObject(Object object, ByteBuffer buffer) {
+            writes++;
+            super.writeObject(object, buffer);
+        }
+
+        @Override
+        public Object readObject(ByteBuffer buffer, int length, Class<?> clazz) throws Exception {
+            reads++;
+            return super.readObject(buffer, length, clazz);
+        }
+    }
+
+    @Test
+    void testModesWrapSerializerFailuresAlike() {
+        // A double list whose length is not a whole number of elements.
+        ByteBuffer malformed = ByteBuffer.allocate(17).order(ByteOrder.LITTLE_ENDIAN);
+        malformed.put((byte) 0x13).putInt(12);
+        ObjectSerializer serializer = new ObjectSerializer();
+
+        for (CodecMode mode : CodecMode.values()) {
+            CodecManager.setMode(mode);
+            RuntimeException exception = assertThrows(RuntimeException.class,
+                    () -> serializer.deserialize(malformed.array(), Food.class), mode.name());
+            assertEquals("Deserialization failed", exception.getMessage(), mode.name());
+            assertInstanceOf(IllegalArgumentException.class, exception.getCause(), mode.name());
+        }
+    }
+
+    @Test
+    void testUnsupportedModelFallsBackToReflection() throws Exception {
+        assertNull(codecManager.getCodec(Immutable.class));
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> codecManager.getCodec(Immutable.class, CodecMode.GENERATED));
+        assertTrue(exception.getCause().getMessage().contains("final"));
+
+        ObjectSerializer serializer = new ObjectSerializer();
+        assertEquals("fixed", ((Immutable) serializer.deserialize(serializer.serialize(new Immutable()), Immutable.class)).name);
+    }
+
+    @Test
+    void testGeneratedCodecWireFormat() throws Exception {
+        Area area = new Area();
+        area.setAreaName("A");
+        area.setArea(2.5);
+
+        ByteBuffer expected = ByteBuffer.allocate(15).order(ByteOrder.LITTLE_ENDIAN);
+        expected.put((byte) 0x88).putInt(1).put((byte) 'A');
+        expected.put((byte) 0x89).putDouble(2.5);
+
+        ObjectSerializer serializer = new ObjectSerializer();
+        for (CodecMode mode : new CodecMode[]{CodecMode.GENERATED, CodecMode.AUTO}) {
+            ObjectCodec<Area> codec = codecManager.getCodec(Area.class, mode);
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+            codec.serialize(area, buffer, serializer);
+            buffer.flip();
+            byte[] actual = new byte[buffer.remaining()];
+            buffer.get(actual);
+            assertArrayEquals(expected.array(), actual);
+
+            Area result = codec.deserialize(ByteBuffer.wrap(actual), serializer);
+            assertEquals("A", result.getAreaName());
+            assertEquals(2.5, result.getArea());
+        }
+    }
+}
@@ -89,5 +89,26 @@ public class IntegerSerializerTest {
         Integer retrievedValue = IntegerSerializer.getInt(buffer, index);
         assertEquals(value, retrievedValue, "getInt with index did not retrieve the expected integer value");
     }
-}
 
+    @Test
+    public void testWriteAndReadInPlace() {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.position(3);
+        serializer.write(buffer, 123456789, null);
+        serializer.write(buffer, null, null);
+        assertEquals(11, buffer.position());
+        assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+
+        buffer.position(3);
+        assertEquals(123456789, serializer.read(buffer, 4, null));
+        assertEquals(0, serializer.read(buffer, 4, null));
+        assertEquals(11, buffer.position());
+    }
+
+    @Test
+    public void testReadWrongLengthSkipsValue() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        assertNull(serializer.read(buffer, 3, null));
+        assertEquals(3, buffer.position());
+    }
+}
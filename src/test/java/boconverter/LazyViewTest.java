@@ -0,0 +1,92 @@
+package boconverter;
+
+import org.example.models.Area;
+import org.example.models.Food;
+import org.example.models.ZoneType;
+import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.serializers.IntegerSerializer;
+import org.example.serialization.serializers.LazyView;
+import org.example.serialization.serializers.LongSerializer;
+import org.example.serialization.serializers.ObjectSerializer;
+import org.example.serialization.serializers.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyViewTest {
+    private final ObjectSerializer serializer = new ObjectSerializer();
+
+    public static class Counter {
+        @SerializedField(type = IntegerSerializer.class, identifier = 0x01, length = 4)
+        int count;
+
+        @SerializedField(type = LongSerializer.class, identifier = 0x02, length = 8)
+        long total;
+
+        @SerializedField(type = StringSerializer.class, identifier = 0x03, required = false)
+        String label;
+    }
+
+    @Test
+    void testFieldsMatchFullDecode() throws Exception {
+        Food food = ObjectSerializerTest.createFood();
+        LazyView<Food> view = serializer.lazy(serializer.serialize(food), Food.class);
+
+        assertEquals(Food.class, view.type());
+        assertEquals("Alu vorta", view.get("foodName"));
+        assertEquals(42, view.getInt("foodType"));
+        assertEquals(0.0, view.getDouble("foodAmount"));
+        assertEquals(food.getArrayList(), view.get("arrayList"));
+
+        LazyView<ZoneType> zoneType = view.view("zoneType");
+        assertEquals(food.getZoneType().getUuid(), zoneType.get("uuid"));
+        assertEquals(37.7749, zoneType.getDouble("latitude"));
+        assertEquals(1723214160000L, zoneType.getLong("length"));
+        assertSame(zoneType, view.view("zoneType"));
+        assertSame(zoneType.get("zones"), zoneType.get("zones"));
+
+        List<LazyView<Area>> areas = zoneType.elements("areas");
+        assertEquals(3, areas.size());
+        assertEquals("Area2", areas.get(2).get("areaName"));
+        assertEquals(2.0, areas.get(2).getDouble("area"));
+
+        ZoneType decoded = (ZoneType) view.get("zoneType");
+        assertEquals(food.getZoneType().getSleepBinnings().size(), decoded.getSleepBinnings().size());
+        assertArrayEquals(serializer.serialize(food), serializer.serialize(view.toObject()));
+        assertArrayEquals(serializer.serialize(food.getZoneType()), serializer.serialize(zoneType.toObject()));
+    }
+
+    @Test
+    void testPrimitivesAndMissingFields() throws Exception {
+        Counter counter = new Counter();
+        counter.count = 7;
+        counter.total = -3L;
+        ByteBuffer buffer = ByteBuffer.wrap(serializer.serialize(counter));
+        LazyView<Counter> view = serializer.lazy(buffer, Counter.class);
+        assertFalse(buffer.hasRemaining());
+
+        assertEquals(7, view.getInt("count"));
+        assertEquals(7, (int) view.get("count"));
+        assertEquals(-3L, view.getLong("total"));
+        assertEquals(-3.0, view.getDouble("total"));
+        assertFalse(view.has("label"));
+        assertNull(view.get("label"));
+        assertThrows(IllegalArgumentException.class, () -> view.get("missing"));
+        assertThrows(IllegalArgumentException.class, () -> view.view("count"));
+    }
+
+    @Test
+    void testUnwrittenNestedFieldsAreNull() throws Exception {
+        Food food = ObjectSerializerTest.createFood();
+        food.getZoneType().setAreas(new ArrayList<>());
+        LazyView<ZoneType> zoneType = serializer.lazy(serializer.serialize(food), Food.class).view("zoneType");
+        assertTrue(zoneType.elements("areas").isEmpty());
+
+        food.setZoneType(null);
+        assertNull(serializer.lazy(serializer.serialize(food), Food.class).view("zoneType"));
+    }
+}
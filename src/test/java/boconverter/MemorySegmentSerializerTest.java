@@ -0,0 +1,75 @@
+package boconverter;
+
+import jdk.incubator.foreign.MemoryAccess;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+import org.example.models.Food;
+import org.example.serialization.exceptions.BufferTooSmallException;
+import org.example.serialization.serializers.MemorySegmentSerializer;
+import org.example.serialization.serializers.ObjectSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemorySegmentSerializerTest {
+    private final ObjectSerializer objectSerializer = new ObjectSerializer();
+    private final MemorySegmentSerializer serializer = new MemorySegmentSerializer(objectSerializer);
+
+    @Test
+    void testSerializeToSegmentMatchesByteArray() throws Exception {
+        Food food = ObjectSerializerTest.createFood();
+        byte[] expected = objectSerializer.serialize(food);
+        try (ResourceScope scope = ResourceScope.newConfinedScope()) {
+            MemorySegment segment = MemorySegment.allocateNative(expected.length + 10, scope);
+            assertEquals(expected.length, serializer.serializeTo(food, segment, 10));
+            assertArrayEquals(expected, segment.asSlice(10).toByteArray());
+
+            Food result = serializer.deserialize(segment, 10, expected.length, Food.class);
+            assertEquals(food.getFoodName(), result.getFoodName());
+            assertEquals(food.getFoodUUID(), result.getFoodUUID());
+            assertEquals(food.getZoneType().getAreas().size(), result.getZoneType().getAreas().size());
+        }
+    }
+
+    @Test
+    void testRecordsAreWrittenBackToBack() throws Exception {
+        Food food = ObjectSerializerTest.createFood();
+        int size = objectSerializer.serialize(food).length;
+        try (ResourceScope scope = ResourceScope.newConfinedScope()) {
+            MemorySegment segment = MemorySegment.allocateNative(3L * (Integer.BYTES + size), scope);
+            long offset = 0;
+            for (int i = 0; i < 3; i++) {
+                food.setFoodType(i);
+                offset = serializer.writeRecord(food, segment, offset);
+            }
+            assertEquals(segment.byteSize(), offset);
+            assertEquals(size, MemoryAccess.getIntAtOffset(segment, 0, ByteOrder.LITTLE_ENDIAN));
+
+            offset = 0;
+            for (int i = 0; i < 3; i++) {
+                assertEquals(i, serializer.readRecord(segment, offset, Food.class).getFoodType());
+                offset += serializer.recordSize(segment, offset);
+            }
+        }
+    }
+
+    @Test
+    void testTooSmallSegmentKeepsRecordLength() throws Exception {
+        Food food = ObjectSerializerTest.createFood();
+        int size = objectSerializer.serialize(food).length;
+        try (ResourceScope scope = ResourceScope.newConfinedScope()) {
+            MemorySegment segment = MemorySegment.allocateNative(size, scope);
+            BufferTooSmallException exception = assertThrows(BufferTooSmallException.class,
+                    () -> serializer.writeRecord(food, segment, 0));
+            assertEquals(Integer.BYTES + size, exception.getRequiredSize());
+            assertEquals(size, exception.getAvailableSize());
+            assertEquals(0, MemoryAccess.getIntAtOffset(segment, 0, ByteOrder.LITTLE_ENDIAN));
+
+            assertThrows(BufferTooSmallException.class, () -> serializer.serializeTo(food, segment, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> serializer.serializeTo(food, segment, size + 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> serializer.readRecord(segment, size - 2, Food.class));
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package boconverter;
 
+import org.example.models.Area;
+import org.example.models.Food;
+import org.example.models.SleepBinning;
+import org.example.models.ZoneType;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
+import org.example.serialization.exceptions.BufferTooSmallException;
 import org.example.serialization.exceptions.SerializerCreationException;
 import org.example.serialization.interfaces.SerializedField;
 import org.example.serialization.interfaces.Serializer;
@@ -14,6 +19,10 @@ import org.example.serialization.serializers.StringSerializer;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -132,6 +141,15 @@ class ObjectSerializerTest {
         }
     }
 
+    @Test
+    void testGetSerializer_ReturnsSharedInstance() throws Exception {
+        Method method = ObjectSerializer.class.getDeclaredMethod("getSerializer", Class.class);
+        method.setAccessible(true);
+        Object first = method.invoke(null, IntegerSerializer.class);
+        Object second = method.invoke(null, IntegerSerializer.class);
+        assertSame(first, second, "Serializers should be shared instead of created per field.");
+    }
+
     @Test
     void testGetSerializer_InaccessibleConstructor() {
         try {
@@ -162,6 +180,159 @@ class ObjectSerializerTest {
         }
     }
 
+    @Test
+    void testSerializeDeserialize_NestedObjectRoundTrip() throws Exception {
+        ObjectSerializer serializer = new ObjectSerializer();
+        Food food = createFood();
+
+        byte[] first = serializer.serialize(food);
+        byte[] second = serializer.serialize(food);
+        assertArrayEquals(first, second, "Serializing the same object twice should produce the same bytes.");
+
+        Food result = (Food) serializer.deserialize(first, Food.class);
+        assertEquals(food.getFoodName(), result.getFoodName());
+        assertEquals(food.getFoodUUID(), result.getFoodUUID());
+        assertEquals(food.getFoodType(), result.getFoodType());
+        assertEquals(food.getArrayList(), result.getArrayList());
+
+        ZoneType zoneType = result.getZoneType();
+        assertEquals(20, zoneType.getMaxValue());
+        assertEquals("0000018d-070e-5705-a405-eede1217e657", zoneType.getUuid());
+        assertEquals(food.getZoneType().getZones(), zoneType.getZones());
+        assertEquals(food.getZoneType().getLatitude(), zoneType.getLatitude());
+        assertEquals(3, zoneType.getAreas().size());
+        assertEquals("Area2", zoneType.getAreas().get(2).getAreaName());
+        assertEquals(2.0, zoneType.getAreas().get(2).getArea());
+        assertEquals(2, zoneType.getSleepBinnings().get(2).getHrss());
+    }
+
+    @Test
+    void testDeserialize_UnknownIdentifier() {
+        ObjectSerializer serializer = new ObjectSerializer();
+        byte[] data = new byte[]{0x7F, 0, 0, 0, 0};
+        assertThrows(NullPointerException.class, () -> serializer.deserialize(data, Area.class));
+    }
+
+    @Test
+    void testSizeOf_MatchesSerializedLength() {
+        ObjectSerializer serializer = new ObjectSerializer();
+        Food food = createFood();
+        assertEquals(serializer.serialize(food).length, serializer.sizeOf(food));
+        assertEquals(serializer.serialize(food.getZoneType()).length, serializer.sizeOf(food.getZoneType()));
+        assertEquals(-1, serializer.sizeOf(null));
+    }
+
+    @Test
+    void testSerializeTo_WritesWireFormatInPlace() throws Exception {
+        ObjectSerializer serializer = new ObjectSerializer();
+        Food food = createFood();
+        byte[] expected = serializer.serialize(food);
+
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(expected.length + 10), ByteBuffer.allocateDirect(expected.length + 10)}) {
+            buffer.order(ByteOrder.LITTLE_ENDIAN).position(3);
+            assertEquals(expected.length, serializer.serializeTo(food, buffer));
+            assertEquals(3 + expected.length, buffer.position());
+            assertEquals(ByteOrder.LITTLE_ENDIAN, buffer.order());
+
+            byte[] written = new byte[expected.length];
+            buffer.get(3, written);
+            assertArrayEquals(expected, written);
+        }
+
+        byte[] data = new byte[expected.length + 2];
+        assertEquals(expected.length, serializer.serializeTo(food, data, 2));
+        assertArrayEquals(expected, Arrays.copyOfRange(data, 2, data.length));
+    }
+
+    @Test
+    void testSerializeTo_OverflowCanBeRetried() throws Exception {
+        ObjectSerializer serializer = new ObjectSerializer();
+        Food food = createFood();
+        int size = serializer.serialize(food).length;
+
+        ByteBuffer small = ByteBuffer.allocate(size / 2);
+        small.position(1);
+        BufferTooSmallException exception = assertThrows(BufferTooSmallException.class, () -> serializer.serializeTo(food, small));
+        assertEquals(size, exception.getRequiredSize());
+        assertEquals(size / 2 - 1, exception.getAvailableSize());
+        assertEquals(1, small.position());
+
+        ByteBuffer retry = ByteBuffer.allocate(exception.getRequiredSize());
+        assertEquals(size, serializer.serializeTo(food, retry));
+        assertFalse(retry.hasRemaining());
+    }
+
+    @Test
+    void testSerializeTo_EveryTruncationReportsTooSmall() {
+        ObjectSerializer serializer = new ObjectSerializer();
+        Food food = createFood();
+        int size = serializer.sizeOf(food);
+
+        // Length slots of nested objects and arrays are reserved before their contents, so each cut point must overflow cleanly.
+        for (int capacity = 0; capacity < size; capacity++) {
+            ByteBuffer buffer = ByteBuffer.allocate(capacity);
+            BufferTooSmallException exception = assertThrows(BufferTooSmallException.class, () -> serializer.serializeTo(food, buffer));
+            assertEquals(size, exception.getRequiredSize());
+        }
+    }
+
+    @Test
+    void testDeserialize_FromBufferWindow() throws Exception {
+        ObjectSerializer serializer = new ObjectSerializer();
+        Food food = createFood();
+        byte[] bytes = serializer.serialize(food);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 6).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(new byte[]{9, 9, 9}).put(bytes).put(new byte[]{9, 9, 9});
+        buffer.position(3).limit(3 + bytes.length);
+
+        Food result = serializer.deserialize(buffer, Food.class);
+        assertEquals(buffer.limit(), buffer.position());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, buffer.order());
+        assertEquals(food.getFoodName(), result.getFoodName());
+        assertEquals(food.getArrayList(), result.getArrayList());
+        assertEquals(food.getZoneType().getZones(), result.getZoneType().getZones());
+        assertEquals("Area1", result.getZoneType().getAreas().get(1).getAreaName());
+        assertEquals(2, result.getZoneType().getSleepBinnings().get(2).getHrri());
+    }
+
+    static Food createFood() {
+        Food food = new Food();
+        food.setFoodType(42);
+        food.setFoodName("Alu vorta");
+        food.setFoodUUID("0000018d-f7a9-9575-a405-eede1217e657");
+        ArrayList<Double> list = new ArrayList<>();
+        list.add(1.1);
+        list.add(2.2);
+        food.setArrayList(list);
+
+        ZoneType zoneType = new ZoneType();
+        zoneType.setMaxValue(20);
+        zoneType.setMinValue(10);
+        zoneType.setLength(1723214160000L);
+        zoneType.setUuid("0000018d-070e-5705-a405-eede1217e657");
+        ArrayList<String> zones = new ArrayList<>();
+        zones.add("Max");
+        zones.add("Min");
+        zoneType.setZones(zones);
+        zoneType.setLatitude(37.7749);
+        zoneType.setLongitude(-122.4194);
+
+        ArrayList<Area> areas = new ArrayList<>();
+        ArrayList<SleepBinning> sleepBinnings = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Area area = new Area();
+            area.setAreaName("Area" + i);
+            area.setArea((double) i);
+            areas.add(area);
+            sleepBinnings.add(new SleepBinning(i, i));
+        }
+        zoneType.setAreas(areas);
+        zoneType.setSleepBinnings(sleepBinnings);
+        food.setZoneType(zoneType);
+        return food;
+    }
+
     @Test
     void deserialize() {
     }
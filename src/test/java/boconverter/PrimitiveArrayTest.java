@@ -0,0 +1,185 @@
+package boconverter;
+
+import org.example.serialization.codecs.CodecMode;
+import org.example.serialization.dataclass.SerializedFieldAttributes;
+import org.example.serialization.exceptions.SerializerMismatchException;
+import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.managers.CodecManager;
+import org.example.serialization.serializers.*;
+import org.example.serialization.validators.SerializationCompatibilityValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveArrayTest {
+
+    public static class Samples {
+        @SerializedField(type = ArraySerializer.class, innerType = DoubleSerializer.class, identifier = 0x01, length = 8)
+        double[] heights;
+
+        @SerializedField(type = ArraySerializer.class, innerType = LongSerializer.class, identifier = 0x02, length = 8)
+        long[] timestamps;
+
+        @SerializedField(type = ArraySerializer.class, innerType = IntegerSerializer.class, identifier = 0x03, length = 4)
+        int[] steps;
+
+        @SerializedField(type = ArraySerializer.class, innerType = FloatSerializer.class, identifier = 0x04, length = 4)
+        float[] ratios;
+
+        @SerializedField(type = ArraySerializer.class, innerType = ShortSerializer.class, identifier = 0x05, length = 2)
+        short[] bearings;
+
+        @SerializedField(type = ArraySerializer.class, innerType = ByteIntSerializer.class, identifier = 0x06, length = 1)
+        private byte[] levels;
+
+        public byte[] getLevels() {
+            return levels;
+        }
+
+        public void setLevels(byte[] levels) {
+            this.levels = levels;
+        }
+    }
+
+    public static class BoxedSamples {
+        @SerializedField(type = ArraySerializer.class, innerType = DoubleSerializer.class, identifier = 0x01, length = 8)
+        ArrayList<Double> heights;
+
+        @SerializedField(type = ArraySerializer.class, innerType = LongSerializer.class, identifier = 0x02, length = 8)
+        ArrayList<Long> timestamps;
+
+        @SerializedField(type = ArraySerializer.class, innerType = IntegerSerializer.class, identifier = 0x03, length = 4)
+        ArrayList<Integer> steps;
+
+        @SerializedField(type = ArraySerializer.class, innerType = FloatSerializer.class, identifier = 0x04, length = 4)
+        ArrayList<Float> ratios;
+
+        @SerializedField(type = ArraySerializer.class, innerType = ShortSerializer.class, identifier = 0x05, length = 2)
+        ArrayList<Short> bearings;
+
+        @SerializedField(type = ArraySerializer.class, innerType = ByteIntSerializer.class, identifier = 0x06, length = 1)
+        ArrayList<Integer> levels;
+    }
+
+    public static class Narrowed {
+        @SerializedField(type = ArraySerializer.class, innerType = ByteIntSerializer.class, identifier = 0x01, length = 1)
+        int[] levels;
+
+        @SerializedField(type = ArraySerializer.class, innerType = LongFrom4ByteSerializer.class, identifier = 0x02, length = 4)
+        long[] offsets;
+    }
+
+    public static class BoxedNarrowed {
+        @SerializedField(type = ArraySerializer.class, innerType = ByteIntSerializer.class, identifier = 0x01, length = 1)
+        ArrayList<Integer> levels;
+
+        @SerializedField(type = ArraySerializer.class, innerType = LongFrom4ByteSerializer.class, identifier = 0x02, length = 4)
+        ArrayList<Long> offsets;
+    }
+
+    public static class Mismatched {
+        @SerializedField(type = ArraySerializer.class, innerType = IntegerSerializer.class, identifier = 0x01, length = 4)
+        long[] timestamps;
+    }
+
+    @AfterEach
+    void resetMode() {
+        CodecManager.setMode(CodecMode.AUTO);
+    }
+
+    @Test
+    void testMatchesArrayListWireFormat() {
+        SerializedFieldAttributes attributes = new SerializedFieldAttributes(ArraySerializer.class, (byte) 0x01, 8, false);
+        ArrayList<Long> boxed = new ArrayList<>(List.of(Long.MIN_VALUE, -1L, 0L, 1_700_000_000_000L));
+        byte[] expected = new ArraySerializer<>(new LongSerializer()).serialize(boxed, attributes);
+
+        PrimitiveArraySerializer<long[]> serializer = new PrimitiveArraySerializer<>(new LongSerializer(), long[].class);
+        byte[] bytes = serializer.serialize(new long[]{Long.MIN_VALUE, -1L, 0L, 1_700_000_000_000L}, attributes);
+        assertArrayEquals(expected, bytes);
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int length = buffer.order(ByteOrder.LITTLE_ENDIAN).getInt();
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -1L, 0L, 1_700_000_000_000L}, serializer.read(buffer, length, attributes));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testModelRoundTripMatchesBoxedModel() throws Exception {
+        BoxedSamples boxed = new BoxedSamples();
+        boxed.heights = new ArrayList<>(List.of(10.5, -11.25));
+        boxed.timestamps = new ArrayList<>(List.of(1_700_000_000_000L));
+        boxed.steps = new ArrayList<>(List.of(1, 2, 3));
+        boxed.ratios = new ArrayList<>();
+        boxed.bearings = new ArrayList<>(List.of((short) -270, (short) 90));
+        boxed.levels = new ArrayList<>(List.of(0, 127, 200, 255));
+        ObjectSerializer serializer = new ObjectSerializer();
+        byte[] expected = serializer.serialize(boxed);
+
+        Samples samples = new Samples();
+        samples.heights = new double[]{10.5, -11.25};
+        samples.timestamps = new long[]{1_700_000_000_000L};
+        samples.steps = new int[]{1, 2, 3};
+        samples.ratios = new float[0];
+        samples.bearings = new short[]{-270, 90};
+        samples.setLevels(new byte[]{0, 127, (byte) 200, (byte) 255});
+
+        for (CodecMode mode : CodecMode.values()) {
+            CodecManager.setMode(mode);
+            byte[] bytes = serializer.serialize(samples);
+            assertArrayEquals(expected, bytes, mode.name());
+
+            Samples result = serializer.deserialize(ByteBuffer.wrap(bytes), Samples.class);
+            assertArrayEquals(samples.heights, result.heights);
+            assertArrayEquals(samples.timestamps, result.timestamps);
+            assertArrayEquals(samples.steps, result.steps);
+            assertArrayEquals(samples.ratios, result.ratios);
+            assertArrayEquals(samples.bearings, result.bearings);
+            assertArrayEquals(samples.getLevels(), result.getLevels());
+        }
+    }
+
+    @Test
+    void testNarrowingArraysMatchBoxedModel() throws Exception {
+        BoxedNarrowed boxed = new BoxedNarrowed();
+        boxed.levels = new ArrayList<>();
+        boxed.offsets = new ArrayList<>();
+        Narrowed narrowed = new Narrowed();
+        narrowed.levels = new int[40];
+        narrowed.offsets = new long[40];
+        for (int i = 0; i < 40; i++) {
+            narrowed.levels[i] = i * 7 % 256;
+            narrowed.offsets[i] = (i - 20) * 100_000_000L;
+            boxed.levels.add(narrowed.levels[i]);
+            boxed.offsets.add(narrowed.offsets[i]);
+        }
+        ObjectSerializer serializer = new ObjectSerializer();
+        byte[] expected = serializer.serialize(boxed);
+
+        for (CodecMode mode : CodecMode.values()) {
+            CodecManager.setMode(mode);
+            byte[] bytes = serializer.serialize(narrowed);
+            assertArrayEquals(expected, bytes, mode.name());
+
+            Narrowed result = serializer.deserialize(ByteBuffer.wrap(bytes), Narrowed.class);
+            assertArrayEquals(narrowed.levels, result.levels);
+            BoxedNarrowed boxedResult = serializer.deserialize(ByteBuffer.wrap(bytes), BoxedNarrowed.class);
+            for (int i = 0; i < 40; i++) {
+                assertEquals(boxedResult.offsets.get(i), result.offsets[i]);
+            }
+        }
+    }
+
+    @Test
+    void testArrayTypeMustMatchInnerSerializer() {
+        SerializerMismatchException exception = assertThrows(SerializerMismatchException.class,
+                () -> SerializationCompatibilityValidator.validate(Mismatched.class));
+        assertTrue(exception.getMessage().contains("timestamps"));
+    }
+}
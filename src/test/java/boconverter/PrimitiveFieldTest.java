@@ -0,0 +1,163 @@
+package boconverter;
+
+import org.example.serialization.codecs.CodecMode;
+import org.example.serialization.exceptions.SerializerMismatchException;
+import org.example.serialization.interfaces.ObjectCodec;
+import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.managers.CodecManager;
+import org.example.serialization.managers.SchemaManager;
+import org.example.serialization.serializers.*;
+import org.example.serialization.validators.SerializationCompatibilityValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveFieldTest {
+
+    public static class Primitives {
+        @SerializedField(type = IntegerSerializer.class, identifier = 0x01, length = 4)
+        int count;
+
+        @SerializedField(type = LongSerializer.class, identifier = 0x02, length = 8)
+        private long altitude;
+
+        @SerializedField(type = DoubleSerializer.class, identifier = 0x03, length = 8)
+        double average;
+
+        @SerializedField(type = FloatSerializer.class, identifier = 0x04, length = 4)
+        float ratio;
+
+        @SerializedField(type = ShortSerializer.class, identifier = 0x05, length = 2)
+        short bearing;
+
+        @SerializedField(type = BooleanSerializer.class, identifier = 0x06, length = 1)
+        boolean safe;
+
+        @SerializedField(type = ByteIntSerializer.class, identifier = 0x07, length = 1)
+        int level;
+
+        public long getAltitude() {
+            return altitude;
+        }
+
+        public void setAltitude(long altitude) {
+            this.altitude = altitude;
+        }
+    }
+
+    public static class Boxed {
+        @SerializedField(type = IntegerSerializer.class, identifier = 0x01, length = 4)
+        Integer count;
+
+        @SerializedField(type = LongSerializer.class, identifier = 0x02, length = 8)
+        Long altitude;
+
+        @SerializedField(type = DoubleSerializer.class, identifier = 0x03, length = 8)
+        Double average;
+
+        @SerializedField(type = FloatSerializer.class, identifier = 0x04, length = 4)
+        Float ratio;
+
+        @SerializedField(type = ShortSerializer.class, identifier = 0x05, length = 2)
+        Short bearing;
+
+        @SerializedField(type = BooleanSerializer.class, identifier = 0x06, length = 1)
+        Boolean safe;
+
+        @SerializedField(type = ByteIntSerializer.class, identifier = 0x07, length = 1)
+        Integer level;
+    }
+
+    public static class Mismatched {
+        @SerializedField(type = LongSerializer.class, identifier = 0x01, length = 8)
+        int count;
+    }
+
+    @AfterEach
+    void resetMode() {
+        CodecManager.setMode(CodecMode.AUTO);
+    }
+
+    private static Primitives createPrimitives() {
+        Primitives primitives = new Primitives();
+        primitives.count = 123456789;
+        primitives.setAltitude(-9_876_543_210L);
+        primitives.average = 12.75;
+        primitives.ratio = 0.5f;
+        primitives.bearing = -270;
+        primitives.safe = true;
+        primitives.level = 200;
+        return primitives;
+    }
+
+    @Test
+    void testPrimitiveFieldsMatchBoxedWireFormat() throws Exception {
+        Boxed boxed = new Boxed();
+        boxed.count = 123456789;
+        boxed.altitude = -9_876_543_210L;
+        boxed.average = 12.75;
+        boxed.ratio = 0.5f;
+        boxed.bearing = -270;
+        boxed.safe = true;
+        boxed.level = 200;
+        ObjectSerializer serializer = new ObjectSerializer();
+        byte[] expected = serializer.serialize(boxed);
+        assertEquals(1 + 4 + 1 + 8 + 1 + 8 + 1 + 4 + 1 + 2 + 1 + 1 + 1 + 1, expected.length);
+
+        for (CodecMode mode : CodecMode.values()) {
+            CodecManager.setMode(mode);
+            byte[] bytes = serializer.serialize(createPrimitives());
+            assertArrayEquals(expected, bytes, mode.name());
+
+            Primitives result = serializer.deserialize(ByteBuffer.wrap(bytes), Primitives.class);
+            assertEquals(123456789, result.count);
+            assertEquals(-9_876_543_210L, result.getAltitude());
+            assertEquals(12.75, result.average);
+            assertEquals(0.5f, result.ratio);
+            assertEquals(-270, result.bearing);
+            assertTrue(result.safe);
+            assertEquals(200, result.level);
+        }
+    }
+
+    @Test
+    void testPrimitiveModelHasFixedSize() {
+        assertEquals(35, new SchemaManager().getSchema(Primitives.class).fixedSize());
+    }
+
+    @Test
+    void testGeneratedCodecDoesNotAllocate() {
+        ObjectCodec<Primitives> codec = new CodecManager().getCodec(Primitives.class, CodecMode.GENERATED);
+        ObjectSerializer serializer = new ObjectSerializer();
+        Primitives primitives = createPrimitives();
+        ByteBuffer buffer = ByteBuffer.allocate(codec.sizeOf(primitives, serializer));
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int iterations = 20_000;
+
+        for (int i = 0; i < iterations; i++) {
+            buffer.clear();
+            codec.serialize(primitives, buffer, serializer);
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            buffer.clear();
+            codec.serialize(primitives, buffer, serializer);
+            primitives.count += codec.sizeOf(primitives, serializer);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        // A single boxed value per call would be at least 16 bytes per iteration.
+        assertTrue(allocated < iterations, "allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void testPrimitiveFieldRequiresMatchingSerializer() {
+        SerializerMismatchException exception = assertThrows(SerializerMismatchException.class,
+                () -> SerializationCompatibilityValidator.validate(Mismatched.class));
+        assertTrue(exception.getMessage().contains("count"));
+    }
+}
@@ -0,0 +1,147 @@
+package boconverter;
+
+import org.example.serialization.codecs.CodecMode;
+import org.example.serialization.collections.DoubleList;
+import org.example.serialization.collections.FloatList;
+import org.example.serialization.collections.IntList;
+import org.example.serialization.collections.LongList;
+import org.example.serialization.dataclass.SerializedFieldAttributes;
+import org.example.serialization.exceptions.SerializerMismatchException;
+import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.managers.CodecManager;
+import org.example.serialization.serializers.*;
+import org.example.serialization.validators.SerializationCompatibilityValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveListTest {
+
+    public static class Track {
+        @SerializedField(type = ArraySerializer.class, innerType = DoubleSerializer.class, identifier = 0x01, length = 8)
+        DoubleList heights;
+
+        @SerializedField(type = ArraySerializer.class, innerType = LongSerializer.class, identifier = 0x02, length = 8)
+        LongList timestamps;
+
+        @SerializedField(type = ArraySerializer.class, innerType = IntegerSerializer.class, identifier = 0x03, length = 4)
+        IntList steps;
+
+        @SerializedField(type = ArraySerializer.class, innerType = FloatSerializer.class, identifier = 0x04, length = 4)
+        FloatList ratios;
+    }
+
+    public static class BoxedTrack {
+        @SerializedField(type = ArraySerializer.class, innerType = DoubleSerializer.class, identifier = 0x01, length = 8)
+        ArrayList<Double> heights;
+
+        @SerializedField(type = ArraySerializer.class, innerType = LongSerializer.class, identifier = 0x02, length = 8)
+        ArrayList<Long> timestamps;
+
+        @SerializedField(type = ArraySerializer.class, innerType = IntegerSerializer.class, identifier = 0x03, length = 4)
+        ArrayList<Integer> steps;
+
+        @SerializedField(type = ArraySerializer.class, innerType = FloatSerializer.class, identifier = 0x04, length = 4)
+        ArrayList<Float> ratios;
+    }
+
+    public static class Mismatched {
+        @SerializedField(type = ArraySerializer.class, innerType = LongSerializer.class, identifier = 0x01, length = 8)
+        DoubleList heights;
+    }
+
+    @AfterEach
+    void resetMode() {
+        CodecManager.setMode(CodecMode.AUTO);
+    }
+
+    @Test
+    void testListBehavesLikeList() {
+        DoubleList list = new DoubleList();
+        for (int i = 0; i < 25; i++) {
+            list.addDouble(i * 0.5);
+        }
+        list.add(0, -1.0);
+        assertEquals(26, list.size());
+        assertEquals(-1.0, list.getDouble(0));
+        assertEquals(12.0, list.remove(25));
+        assertEquals(0.5, list.setDouble(2, 7.0));
+        assertEquals(List.of(-1.0, 0.0, 7.0), list.subList(0, 3));
+        assertArrayEquals(new double[]{-1.0, 0.0, 7.0}, Arrays.copyOf(list.toDoubleArray(), 3));
+        assertEquals(new ArrayList<>(list), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getDouble(25));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testMatchesArrayListWireFormat() {
+        SerializedFieldAttributes attributes = new SerializedFieldAttributes(ArraySerializer.class, (byte) 0x01, 8, false);
+        ArrayList<Double> boxed = new ArrayList<>(List.of(1.5, -2.25, 1e300, Double.NaN));
+        byte[] expected = new ArraySerializer<>(new DoubleSerializer()).serialize(boxed, attributes);
+
+        PrimitiveListSerializer<DoubleList> serializer = new PrimitiveListSerializer<>(new DoubleSerializer());
+        byte[] bytes = serializer.serialize(DoubleList.of(1.5, -2.25, 1e300, Double.NaN), attributes);
+        assertArrayEquals(expected, bytes);
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int length = buffer.order(ByteOrder.LITTLE_ENDIAN).getInt();
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        assertEquals(boxed, serializer.read(buffer, length, attributes));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testRejectsPartialElement() {
+        PrimitiveListSerializer<LongList> serializer = new PrimitiveListSerializer<>(new LongSerializer());
+        SerializedFieldAttributes attributes = new SerializedFieldAttributes(ArraySerializer.class, (byte) 0x01, 8, false);
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        assertThrows(IllegalArgumentException.class, () -> serializer.read(buffer, 12, attributes));
+        assertEquals(0, buffer.position());
+        assertThrows(IllegalArgumentException.class, () -> serializer.deserialize(new byte[12], attributes));
+    }
+
+    @Test
+    void testModelRoundTripMatchesBoxedModel() throws Exception {
+        BoxedTrack boxed = new BoxedTrack();
+        boxed.heights = new ArrayList<>(List.of(10.5, 11.25, 12.0));
+        boxed.timestamps = new ArrayList<>(List.of(1_700_000_000_000L, -1L));
+        boxed.steps = new ArrayList<>(List.of(1, 2, 3, 4));
+        boxed.ratios = new ArrayList<>();
+        ObjectSerializer serializer = new ObjectSerializer();
+        byte[] expected = serializer.serialize(boxed);
+
+        Track track = new Track();
+        track.heights = DoubleList.of(10.5, 11.25, 12.0);
+        track.timestamps = LongList.of(1_700_000_000_000L, -1L);
+        track.steps = IntList.of(1, 2, 3, 4);
+        track.ratios = new FloatList();
+
+        for (CodecMode mode : CodecMode.values()) {
+            CodecManager.setMode(mode);
+            byte[] bytes = serializer.serialize(track);
+            assertArrayEquals(expected, bytes, mode.name());
+
+            Track result = serializer.deserialize(ByteBuffer.wrap(bytes), Track.class);
+            assertEquals(track.heights, result.heights);
+            assertEquals(track.timestamps, result.timestamps);
+            assertEquals(track.steps, result.steps);
+            assertTrue(result.ratios.isEmpty());
+        }
+    }
+
+    @Test
+    void testListTypeMustMatchInnerSerializer() {
+        SerializerMismatchException exception = assertThrows(SerializerMismatchException.class,
+                () -> SerializationCompatibilityValidator.validate(Mismatched.class));
+        assertTrue(exception.getMessage().contains("heights"));
+    }
+}
@@ -0,0 +1,63 @@
+package boconverter;
+
+import org.example.models.Food;
+import org.example.serialization.exceptions.SerializerMismatchException;
+import org.example.serialization.interfaces.SerializedField;
+import org.example.serialization.serializers.ArraySerializer;
+import org.example.serialization.serializers.IntegerSerializer;
+import org.example.serialization.serializers.ObjectSerializer;
+import org.example.serialization.serializers.StringSerializer;
+import org.example.serialization.validators.SerializationCompatibilityValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializationCompatibilityValidatorTest {
+
+    static class Misconfigured {
+        @SerializedField(type = IntegerSerializer.class, identifier = 0x01)
+        String name;
+
+        @SerializedField(type = ArraySerializer.class, identifier = 0x02, innerType = StringSerializer.class)
+        ArrayList<Integer> values;
+
+        @SerializedField(type = StringSerializer.class, identifier = 0x03)
+        String valid;
+    }
+
+    static class Parent {
+        @SerializedField(identifier = 0x01)
+        Misconfigured child;
+    }
+
+    @Test
+    void testValidate_ValidModels() {
+        assertDoesNotThrow(() -> SerializationCompatibilityValidator.validate(Food.class));
+    }
+
+    @Test
+    void testValidate_ListsEveryMisconfiguredField() {
+        SerializerMismatchException exception = assertThrows(SerializerMismatchException.class,
+                () -> SerializationCompatibilityValidator.validate(Misconfigured.class));
+
+        assertTrue(exception.getMessage().contains("name"));
+        assertTrue(exception.getMessage().contains("values"));
+        assertFalse(exception.getMessage().contains("valid:"));
+    }
+
+    @Test
+    void testValidate_ReachesNestedTypes() {
+        SerializerMismatchException exception = assertThrows(SerializerMismatchException.class,
+                () -> SerializationCompatibilityValidator.validate(Parent.class));
+
+        assertTrue(exception.getMessage().contains(Misconfigured.class.getName()));
+    }
+
+    @Test
+    void testSerialize_MisconfiguredClassFailsBeforeWriting() {
+        Misconfigured misconfigured = new Misconfigured();
+        assertThrows(IllegalArgumentException.class, () -> new ObjectSerializer().serialize(misconfigured));
+    }
+}
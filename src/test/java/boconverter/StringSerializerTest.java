@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
 import org.example.serialization.serializers.StringSerializer;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 class StringSerializerTest {
@@ -102,5 +106,72 @@ class StringSerializerTest {
     void testDeserializeNullAnnotationDataClass() {
         assertThrows(NullPointerException.class, () -> serializer.serialize("Test", null));
     }
-}
 
+    @Test
+    void testSizeOfMatchesEncodedLength() {
+        SerializedFieldAttributes prefixed = new SerializedFieldAttributes(String.class, (byte)1, 0, true);
+        SerializedFieldAttributes fixed = new SerializedFieldAttributes(String.class, (byte)1, 8, true);
+        String[] values = {"", "Hello", "caf\u00e9", "\u0995\u09cd\u09b7", "\ud83d\ude00 smile", "broken \ud83d", "\ude00 reversed"};
+        for (String value : values) {
+            assertEquals(serializer.serialize(value, prefixed).length, serializer.sizeOf(value, prefixed), value);
+            assertEquals(serializer.serialize(value, fixed).length, serializer.sizeOf(value, fixed), value);
+        }
+        assertEquals(4, serializer.sizeOf(null, prefixed));
+    }
+
+    @Test
+    void testWriteEncodesLikeGetBytes() {
+        SerializedFieldAttributes annotation = new SerializedFieldAttributes(String.class, (byte)1, 0, true);
+        String[] values = {"", "Max", "caf\u00e9", "\u00e9t\u00e9", "\u0995\u09cd\u09b7 zone", "\ud83d\ude00 smile", "broken \ud83d", "\ude00 reversed"};
+        // Heap buffers are slices, so their array offset is not zero.
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(48).slice(3, 40), ByteBuffer.allocateDirect(40)}) {
+            for (String value : values) {
+                byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+                buffer.clear().position(1);
+                serializer.write(buffer, value, annotation);
+                assertEquals(1 + 4 + expected.length, buffer.position(), value);
+
+                byte[] actual = new byte[expected.length];
+                buffer.get(1 + 4, actual);
+                assertArrayEquals(expected, actual, value);
+                buffer.position(1 + 4);
+                assertEquals(new String(expected, StandardCharsets.UTF_8), serializer.read(buffer, expected.length, annotation));
+            }
+        }
+    }
+
+    @Test
+    void testWriteOverflowLeavesPosition() {
+        SerializedFieldAttributes annotation = new SerializedFieldAttributes(String.class, (byte)1, 0, true);
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        assertThrows(BufferOverflowException.class, () -> serializer.write(buffer, "Hello", annotation));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testWriteAndReadWindow() {
+        String value = "caf\u00e9 au lait";
+        int length = value.getBytes(StandardCharsets.UTF_8).length;
+        SerializedFieldAttributes annotation = new SerializedFieldAttributes(String.class, (byte)1, length, true);
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(32), ByteBuffer.allocateDirect(32)}) {
+            buffer.position(5);
+            serializer.write(buffer, value, annotation);
+            assertEquals(5 + length, buffer.position());
+
+            buffer.position(5);
+            assertEquals(value, serializer.read(buffer, length, annotation));
+            assertEquals(5 + length, buffer.position());
+        }
+    }
+
+    @Test
+    void testReadPastLimitUnderflows() {
+        SerializedFieldAttributes annotation = new SerializedFieldAttributes(String.class, (byte)1, 0, true);
+        byte[] data = "Hello, World".getBytes(StandardCharsets.UTF_8);
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.wrap(data), ByteBuffer.allocateDirect(data.length).put(data)}) {
+            buffer.position(2).limit(5);
+            assertThrows(BufferUnderflowException.class, () -> serializer.read(buffer, 5, annotation));
+            assertEquals(2, buffer.position());
+        }
+    }
+}
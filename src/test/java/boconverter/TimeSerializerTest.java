@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.example.serialization.dataclass.SerializedFieldAttributes;
 import org.example.serialization.serializers.TimeSerializer;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TimeSerializerTest {
@@ -84,5 +86,54 @@ class TimeSerializerTest {
         Long deserializedValue = timeSerializer.deserialize(serializedData, serializedFieldAttributes);
         assertEquals(originalValue / 1000 * 1000, deserializedValue, "Deserialized value should match the original (rounded to the nearest second).");
     }
-}
 
+    @Test
+    void testMatchesHexStringEncoding() {
+        long offset = 631152000000L;
+        long[] values = {0, 1, -1, offset - 1, offset, offset + 999, offset + 1000, offset + 0x1234 * 1000L,
+                offset + 0x0FFFFFFFL * 1000, offset + 0x10000000L * 1000, 4294967295L * 1000 + offset,
+                4294967296L * 1000 + offset, System.currentTimeMillis(), Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + offset - 1};
+        for (long value : values) {
+            assertArrayEquals(hexStringEncoding(value), timeSerializer.serialize(value), Long.toString(value));
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long value = offset + random.nextInt() * 1000L + random.nextInt(1000);
+            assertArrayEquals(hexStringEncoding(value), timeSerializer.serialize(value), Long.toString(value));
+
+            byte[] data = new byte[4];
+            random.nextBytes(data);
+            assertEquals(hexStringDecoding(data), timeSerializer.deserialize(data, serializedFieldAttributes));
+        }
+    }
+
+    // The hex string round trips TimeSerializer used to make, kept as the reference for its byte layout.
+    private static byte[] hexStringEncoding(long value) {
+        String timeString = "00000000";
+        if (value != 0) {
+            value = value - 631152000000L;
+            if (value > 0) {
+                timeString = Long.toHexString(value / 1000);
+            }
+            if (timeString.length() < 8) {
+                timeString = timeString + "0".repeat(8 - timeString.length());
+            } else if (timeString.length() > 8) {
+                timeString = "00000000";
+            }
+        }
+        byte[] data = new byte[4];
+        for (int i = 0; i < 4; i++) {
+            data[3 - i] = (byte) Integer.parseInt(timeString.substring(i * 2, i * 2 + 2), 16);
+        }
+        return data;
+    }
+
+    private static long hexStringDecoding(byte[] data) {
+        StringBuilder timeString = new StringBuilder();
+        for (int i = 3; i >= 0; i--) {
+            timeString.append(String.format("%02X", data[i]));
+        }
+        long time = Long.parseLong(timeString.toString(), 16);
+        return time == 0 ? 0 : time * 1000 + 631152000000L;
+    }
+}
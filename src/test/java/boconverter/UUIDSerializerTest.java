@@ -1,9 +1,16 @@
 package boconverter;
 
+import org.example.serialization.dataclass.UUIDBits;
+import org.example.serialization.serializers.UUIDBitsSerializer;
+import org.example.serialization.serializers.UUIDObjectSerializer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.example.serialization.serializers.UUIDSerializer;
 
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.UUID;
+
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -78,6 +85,57 @@ class UUIDSerializerTest {
         assertEquals("f0debc9a-7856-3412-f0de-bc9a78563412", result);
     }
 
+    @Test
+    void testHexFormsMatchReversedBytes() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            String value = uuid.toString();
+            byte[] expected = reversedBytes(uuid);
+            assertArrayEquals(expected, uuidSerializer.serialize(value));
+            assertArrayEquals(expected, uuidSerializer.serialize(value.toUpperCase()));
+            assertArrayEquals(expected, uuidSerializer.serialize(value.replace("-", "")));
+            assertEquals(value, uuidSerializer.deserialize(expected, null));
+        }
+    }
+
+    @Test
+    void testSerialize_IrregularUUID() {
+        // Values that are not plain hex keep the Integer.parseInt behaviour.
+        byte[] result = uuidSerializer.serialize("+1" + "0".repeat(30));
+        assertEquals(1, result[15]);
+        assertArrayEquals(new byte[16], uuidSerializer.serialize("12ca2200-0000"));
+        assertArrayEquals(new byte[16], uuidSerializer.serialize("x2ca2200-0000"));
+        assertThrows(NumberFormatException.class, () -> uuidSerializer.serialize("x2ca2200-0000-0000-0000-00000000f9ab"));
+    }
+
+    @Test
+    void testUUIDVariantsWriteSameBytes() {
+        UUID uuid = UUID.fromString("0000018d-f7a9-9575-a405-eede1217e657");
+        byte[] expected = uuidSerializer.serialize(uuid.toString());
+        UUIDObjectSerializer objectSerializer = new UUIDObjectSerializer();
+        UUIDBitsSerializer bitsSerializer = new UUIDBitsSerializer();
+        assertArrayEquals(expected, objectSerializer.serialize(uuid));
+        assertArrayEquals(expected, bitsSerializer.serialize(UUIDBits.of(uuid)));
+        assertArrayEquals(new byte[16], objectSerializer.serialize(null));
+        assertArrayEquals(new byte[16], bitsSerializer.serialize(null));
+
+        assertEquals(uuid, objectSerializer.deserialize(expected, null));
+        UUIDBits bits = new UUIDBits();
+        assertSame(bits, bitsSerializer.readInto(ByteBuffer.wrap(expected), 16, null, bits));
+        assertEquals(uuid, bits.toUUID());
+        assertNull(bitsSerializer.deserialize(new byte[]{0x00}, null));
+    }
+
+    private static byte[] reversedBytes(UUID uuid) {
+        byte[] bytes = ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+        byte[] reversed = new byte[16];
+        for (int i = 0; i < 16; i++) {
+            reversed[i] = bytes[15 - i];
+        }
+        return reversed;
+    }
+
     @Test
     void testGetType() {
         assertEquals(String.class, uuidSerializer.getType());